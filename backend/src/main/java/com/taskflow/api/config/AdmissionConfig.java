@@ -0,0 +1,53 @@
+// backend/src/main/java/com/taskflow/api/config/AdmissionConfig.java
+package com.taskflow.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Controle de admissão em /tasks e /auth (tasks.admission.enabled, ligado por padrão).
+ * SSE e exportação ficam de fora: são conexões longas, com limites próprios, e a duração
+ * delas não diz nada sobre a saúde do banco.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tasks.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionConfig implements WebMvcConfigurer {
+    
+    @Value("${tasks.admission.initial-limit:50}")
+    private int initialLimit;
+    
+    @Value("${tasks.admission.min-limit:10}")
+    private int minLimit;
+    
+    @Value("${tasks.admission.max-limit:200}")
+    private int maxLimit;
+    
+    @Value("${tasks.admission.cheap-share:0.2}")
+    private double cheapShare;
+    
+    @Value("${tasks.admission.latency-tolerance:2.0}")
+    private double latencyTolerance;
+    
+    // Provider: este configurer é criado junto com o MVC, antes do limiter
+    @Autowired
+    private ObjectProvider<AdmissionLimiter> admissionLimiter;
+    
+    @Bean
+    public AdmissionLimiter admissionLimiter(MeterRegistry registry) {
+        return new AdmissionLimiter(registry, initialLimit, minLimit, maxLimit, cheapShare, latencyTolerance);
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionInterceptor(admissionLimiter.getObject()))
+            .addPathPatterns("/tasks/**", "/auth/**")
+            .excludePathPatterns("/tasks/events", "/tasks/export");
+    }
+}
@@ -0,0 +1,50 @@
+// backend/src/main/java/com/taskflow/api/config/AdmissionInterceptor.java
+package com.taskflow.api.config;
+
+import com.taskflow.api.controller.CheapEndpoint;
+import com.taskflow.api.exception.ServiceUnavailableException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Aplica o {@link AdmissionLimiter} antes dos controllers. A recusa vira
+ * {@link ServiceUnavailableException} e é respondida pelo GlobalExceptionHandler (503 + Retry-After).
+ */
+public class AdmissionInterceptor implements HandlerInterceptor {
+    
+    private static final String ADMITTED = AdmissionInterceptor.class.getName() + ".admitted";
+    private static final String STARTED = AdmissionInterceptor.class.getName() + ".started";
+    private static final long RETRY_AFTER_SECONDS = 1;
+    
+    private final AdmissionLimiter limiter;
+    
+    public AdmissionInterceptor(AdmissionLimiter limiter) {
+        this.limiter = limiter;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        AdmissionLimiter.RequestClass requestClass = method.hasMethodAnnotation(CheapEndpoint.class)
+            ? AdmissionLimiter.RequestClass.CHEAP
+            : AdmissionLimiter.RequestClass.STANDARD;
+        if (!limiter.tryAcquire(requestClass)) {
+            throw new ServiceUnavailableException("Servidor sobrecarregado, tente novamente", RETRY_AFTER_SECONDS);
+        }
+        request.setAttribute(ADMITTED, requestClass);
+        request.setAttribute(STARTED, System.nanoTime());
+        return true;
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ADMITTED) instanceof AdmissionLimiter.RequestClass requestClass) {
+            request.removeAttribute(ADMITTED);
+            limiter.release(requestClass, System.nanoTime() - (long) request.getAttribute(STARTED));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+// backend/src/main/java/com/taskflow/api/config/AdmissionLimiter.java
+package com.taskflow.api.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limite adaptativo de requisições simultâneas na API (estilo gradiente). A cada intervalo, a
+ * latência média da janela é comparada com a de referência (média móvel longa):
+ * {@code limite = limite × clamp(tolerância × referência / janela, 0,5, 1) + √limite}. Latência
+ * subindo encolhe o limite; latência estável deixa crescer a folga de √limite, mas só quando a
+ * janela chegou perto do limite (sem carga não há o que aprender). Threads esperando conexão no
+ * Hikari ({@code hikaricp.connections.pending}) forçam redução multiplicativa mesmo antes de a
+ * latência reagir: é o primeiro sinal de banco lento.
+ *
+ * <p>O excedente é recusado na hora (503 + Retry-After), em vez de esperar por uma conexão.
+ * Endpoints {@code CHEAP} têm {@code cheapShare} do limite reservado para eles; os demais
+ * ({@code STANDARD}) usam no máximo o restante.
+ */
+public class AdmissionLimiter {
+    
+    public enum RequestClass { CHEAP, STANDARD }
+    
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double POOL_WAIT_BACKOFF = 0.9;
+    private static final double SMOOTHING = 0.2;
+    private static final double BASELINE_DECAY = 0.05;
+    
+    private final MeterRegistry registry;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double cheapShare;
+    private final double tolerance;
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger cheapInFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder windowNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicLong rejectedCheap = new AtomicLong();
+    private final AtomicLong rejectedStandard = new AtomicLong();
+    
+    private volatile double limit;
+    private volatile double baselineNanos;
+    private volatile double lastWindowNanos;
+    
+    public AdmissionLimiter(MeterRegistry registry, int initialLimit, int minLimit, int maxLimit,
+                            double cheapShare, double tolerance) {
+        this.registry = registry;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.cheapShare = cheapShare;
+        this.tolerance = tolerance;
+    }
+    
+    /** Tenta admitir a requisição; com {@code true}, {@link #release} deve ser chamado ao final. */
+    public boolean tryAcquire(RequestClass requestClass) {
+        int current = (int) limit;
+        int reserved = (int) Math.ceil(current * cheapShare);
+        while (true) {
+            int total = inFlight.get();
+            int cheap = cheapInFlight.get();
+            boolean admitted = requestClass == RequestClass.CHEAP
+                // Dentro do limite total, ou da fatia reservada mesmo com o total esgotado
+                ? total < current || cheap < reserved
+                // O restante do limite, descontada a reserva ainda não usada pelos baratos
+                : total - cheap < current - reserved;
+            if (!admitted) {
+                (requestClass == RequestClass.CHEAP ? rejectedCheap : rejectedStandard).incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(total, total + 1)) {
+                if (requestClass == RequestClass.CHEAP) {
+                    cheapInFlight.incrementAndGet();
+                }
+                peakInFlight.accumulateAndGet(total + 1, Math::max);
+                return true;
+            }
+        }
+    }
+    
+    public void release(RequestClass requestClass, long elapsedNanos) {
+        if (requestClass == RequestClass.CHEAP) {
+            cheapInFlight.decrementAndGet();
+        }
+        inFlight.decrementAndGet();
+        windowNanos.add(elapsedNanos);
+        windowSamples.increment();
+    }
+    
+    @Scheduled(fixedDelayString = "${tasks.admission.update-interval:500}")
+    public void update() {
+        long samples = windowSamples.sumThenReset();
+        long nanos = windowNanos.sumThenReset();
+        int peak = peakInFlight.getAndSet(inFlight.get());
+        boolean poolWaiting = pendingConnections() > 0;
+        if (samples == 0 && !poolWaiting) {
+            return;
+        }
+        
+        double current = limit;
+        double gradient = 1.0;
+        if (samples > 0) {
+            double window = (double) nanos / samples;
+            lastWindowNanos = window;
+            double baseline = baselineNanos == 0 ? window : baselineNanos;
+            gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * baseline / window));
+            baselineNanos = baseline + (window - baseline) * BASELINE_DECAY;
+        }
+        if (poolWaiting) {
+            gradient = Math.min(gradient, POOL_WAIT_BACKOFF);
+        }
+        
+        // Folga de crescimento só quando a janela usou ao menos metade do limite
+        double headroom = gradient == 1.0 && peak >= current / 2 ? Math.sqrt(current) : 0;
+        double target = current * gradient + headroom;
+        double next = current + (target - current) * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+    
+    private double pendingConnections() {
+        return registry.find("hikaricp.connections.pending").gauges().stream()
+            .mapToDouble(Gauge::value)
+            .filter(value -> !Double.isNaN(value))
+            .sum();
+    }
+    
+    public int getLimit() {
+        return (int) limit;
+    }
+    
+    public int getInFlight() {
+        return inFlight.get();
+    }
+    
+    public int getCheapInFlight() {
+        return cheapInFlight.get();
+    }
+    
+    public long getRejected(RequestClass requestClass) {
+        return requestClass == RequestClass.CHEAP ? rejectedCheap.get() : rejectedStandard.get();
+    }
+    
+    /** Latência média de referência, em ms (0 antes da primeira janela). */
+    public double getBaselineMillis() {
+        return baselineNanos / 1_000_000;
+    }
+    
+    public double getWindowMillis() {
+        return lastWindowNanos / 1_000_000;
+    }
+}
@@ -0,0 +1,66 @@
+// backend/src/main/java/com/taskflow/api/config/BoundedAcquisitionDataSource.java
+package com.taskflow.api.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita quantas threads disputam o pool ao mesmo tempo dentro de {@code getConnection()}.
+ * Com threads virtuais não há mais o teto natural do pool do Tomcat: milhares de requisições
+ * chegariam juntas ao Hikari. O excedente espera aqui, em fila justa, e desiste depois de
+ * {@code acquireTimeoutMillis} com o mesmo tipo de erro que o Hikari usa no timeout.
+ * A permissão cobre só a aquisição: é devolvida assim que a conexão é obtida.
+ */
+public class BoundedAcquisitionDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    public BoundedAcquisitionDataSource(DataSource target, int maxConcurrentAcquisitions, long acquireTimeoutMillis) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrentAcquisitions, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return super.getConnection();
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                    "Limite de aquisições de conexão atingido; tempo de espera esgotado após " + acquireTimeoutMillis + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexão", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+// backend/src/main/java/com/taskflow/api/config/ConnectionAcquisitionConfig.java
+package com.taskflow.api.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Ativado pelo perfil virtual-threads (tasks.datasource.acquisition.enabled): envolve o
+ * DataSource em um {@link BoundedAcquisitionDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tasks.datasource.acquisition.enabled", havingValue = "true")
+public class ConnectionAcquisitionConfig {
+
+    // static: o post-processor é registrado antes dos demais beans da configuração
+    @Bean
+    public static BeanPostProcessor boundedAcquisitionPostProcessor(Environment environment) {
+        int maxConcurrent = environment.getProperty("tasks.datasource.acquisition.max-concurrent", Integer.class, 20);
+        long timeout = environment.getProperty("tasks.datasource.acquisition.timeout", Long.class, 3000L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BoundedAcquisitionDataSource)) {
+                    return new BoundedAcquisitionDataSource(dataSource, maxConcurrent, timeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
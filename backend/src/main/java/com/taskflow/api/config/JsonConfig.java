@@ -0,0 +1,29 @@
+// backend/src/main/java/com/taskflow/api/config/JsonConfig.java
+package com.taskflow.api.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.taskflow.api.dto.task.TaskResponse;
+import com.taskflow.api.dto.task.TaskResponseSerializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JsonConfig {
+    
+    // Registrado no ObjectMapper do Spring Boot (JacksonAutoConfiguration aplica os Module do contexto)
+    @Bean
+    public Module taskflowJsonModule() {
+        return module();
+    }
+    
+    /**
+     * Serializadores das respostas de tarefas; também usado pelos benchmarks. Só o TaskResponse:
+     * as páginas ({@code Page}) mantêm o formato padrão do Spring Data, com {@code pageable} e {@code sort}.
+     */
+    public static SimpleModule module() {
+        SimpleModule module = new SimpleModule("taskflow");
+        module.addSerializer(TaskResponse.class, new TaskResponseSerializer());
+        return module;
+    }
+}
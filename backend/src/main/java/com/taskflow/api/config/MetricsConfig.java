@@ -0,0 +1,224 @@
+// backend/src/main/java/com/taskflow/api/config/MetricsConfig.java
+package com.taskflow.api.config;
+
+import com.taskflow.api.security.JwtService;
+import com.taskflow.api.security.VerifiedTokenCache;
+import com.taskflow.api.service.CategoryCache;
+import com.taskflow.api.service.OverdueSweeper;
+import com.taskflow.api.service.PostgresTaskListNotifier;
+import com.taskflow.api.service.StatusWriteBehind;
+import com.taskflow.api.service.TaskEventService;
+import com.taskflow.api.service.TaskListCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Métricas próprias da API. Endpoints (http.server.requests), consultas dos repositórios
+ * Spring Data (spring.data.repository.invocations) e o pool Hikari (hikaricp.connections.*)
+ * vêm do Actuator; os métodos de serviço são medidos por {@code @Timed} (taskflow.service).
+ * Nenhuma métrica usa id de usuário como tag.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder jwtMetrics(JwtService jwtService, VerifiedTokenCache tokenCache) {
+        return registry -> {
+            jwtVerifications(registry, "verified", jwtService, JwtService.VerificationStats::verified);
+            jwtVerifications(registry, "expired", jwtService, JwtService.VerificationStats::expired);
+            jwtVerifications(registry, "invalid_signature", jwtService, JwtService.VerificationStats::invalidSignature);
+            jwtVerifications(registry, "malformed", jwtService, JwtService.VerificationStats::malformed);
+
+            FunctionCounter.builder("jwt.cache.requests", tokenCache, cache -> cache.stats().hits())
+                .tag("result", "hit")
+                .description("Consultas ao cache de tokens verificados")
+                .register(registry);
+            FunctionCounter.builder("jwt.cache.requests", tokenCache, cache -> cache.stats().misses())
+                .tag("result", "miss")
+                .description("Consultas ao cache de tokens verificados")
+                .register(registry);
+            FunctionCounter.builder("jwt.cache.evictions", tokenCache, cache -> cache.stats().evictions())
+                .description("Tokens removidos do cache por expiração ou limite de tamanho")
+                .register(registry);
+            Gauge.builder("jwt.cache.size", tokenCache, cache -> cache.stats().size())
+                .description("Tokens verificados em cache")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder categoryCacheMetrics(CategoryCache categoryCache) {
+        return registry -> Gauge.builder("categories.cache.size", categoryCache, CategoryCache::size)
+            .description("Categorias mantidas em memória")
+            .register(registry);
+    }
+
+    @Bean
+    public MeterBinder overdueSweeperMetrics(OverdueSweeper overdueSweeper) {
+        return registry -> {
+            Gauge.builder("tasks.overdue.queue.size", overdueSweeper, OverdueSweeper::getQueueSize)
+                .description("Prazos em aberto na fila do sweeper de vencimento")
+                .register(registry);
+            FunctionCounter.builder("tasks.overdue.marked", overdueSweeper, OverdueSweeper::getMarkedCount)
+                .description("Tarefas marcadas como vencidas pelo sweeper")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder statusWriteBehindMetrics(StatusWriteBehind statusWriteBehind) {
+        return registry -> {
+            Gauge.builder("tasks.status.write_behind.pending", statusWriteBehind, StatusWriteBehind::getPendingCount)
+                .description("Trocas de status confirmadas e ainda não gravadas")
+                .register(registry);
+            FunctionCounter.builder("tasks.status.write_behind.coalesced", statusWriteBehind,
+                    StatusWriteBehind::getCoalescedCount)
+                .description("Trocas de status substituídas por outra antes da gravação")
+                .register(registry);
+            FunctionCounter.builder("tasks.status.write_behind.flushed", statusWriteBehind,
+                    StatusWriteBehind::getFlushedCount)
+                .description("Trocas de status gravadas pelo write-behind")
+                .register(registry);
+            FunctionCounter.builder("tasks.status.write_behind.conflicts", statusWriteBehind,
+                    StatusWriteBehind::getConflictCount)
+                .description("Trocas descartadas na gravação por versão divergente")
+                .register(registry);
+        };
+    }
+
+    // Idade das respostas servidas e atraso dos avisos entre instâncias são Timers do próprio TaskListCache
+    @Bean
+    public MeterBinder taskListCacheMetrics(TaskListCache taskListCache,
+                                            ObjectProvider<PostgresTaskListNotifier> taskListNotifier) {
+        return registry -> {
+            FunctionCounter.builder("tasks.list.cache.requests", taskListCache, TaskListCache::getHitCount)
+                .tag("result", "hit")
+                .description("Consultas ao cache de listagens")
+                .register(registry);
+            FunctionCounter.builder("tasks.list.cache.requests", taskListCache, TaskListCache::getMissCount)
+                .tag("result", "miss")
+                .description("Consultas ao cache de listagens")
+                .register(registry);
+            Gauge.builder("tasks.list.cache.hit.ratio", taskListCache, TaskListCache::getHitRatio)
+                .description("Fração das consultas ao cache de listagens atendidas sem ir ao banco")
+                .register(registry);
+            Gauge.builder("tasks.list.cache.size", taskListCache, TaskListCache::size)
+                .description("Usuários com listagens em cache")
+                .register(registry);
+            FunctionCounter.builder("tasks.list.cache.invalidations", taskListCache,
+                    TaskListCache::getLocalInvalidationCount)
+                .tag("source", "local")
+                .description("Invalidações de usuários no cache de listagens")
+                .register(registry);
+            FunctionCounter.builder("tasks.list.cache.invalidations", taskListCache,
+                    TaskListCache::getRemoteInvalidationCount)
+                .tag("source", "remote")
+                .description("Invalidações de usuários no cache de listagens")
+                .register(registry);
+            FunctionCounter.builder("tasks.list.cache.evictions", taskListCache, TaskListCache::getEvictionCount)
+                .description("Usuários descartados do cache de listagens pelo limite de tamanho")
+                .register(registry);
+            taskListNotifier.ifAvailable(notifier -> {
+                Gauge.builder("tasks.list.cache.notify.connected", notifier, n -> n.isConnected() ? 1 : 0)
+                    .description("1 com a conexão de LISTEN ativa; 0 enquanto ela reconecta")
+                    .register(registry);
+                FunctionCounter.builder("tasks.list.cache.notify.sent", notifier, PostgresTaskListNotifier::getSentCount)
+                    .description("Usuários avisados às outras instâncias por NOTIFY")
+                    .register(registry);
+                FunctionCounter.builder("tasks.list.cache.notify.received", notifier,
+                        PostgresTaskListNotifier::getReceivedCount)
+                    .description("Usuários recebidos de outras instâncias por NOTIFY")
+                    .register(registry);
+                FunctionCounter.builder("tasks.list.cache.notify.reconnects", notifier,
+                        PostgresTaskListNotifier::getReconnectCount)
+                    .description("Reconexões da conexão de LISTEN (cada uma descarta o cache)")
+                    .register(registry);
+            });
+        };
+    }
+
+    @Bean
+    public MeterBinder taskEventMetrics(TaskEventService taskEventService) {
+        return registry -> {
+            Gauge.builder("task.events.subscribers", taskEventService, TaskEventService::getSubscriberCount)
+                .description("Conexões SSE abertas em GET /tasks/events")
+                .register(registry);
+            FunctionCounter.builder("task.events.overflows", taskEventService, TaskEventService::getOverflowCount)
+                .description("Filas de conexões lentas descartadas e substituídas por RESYNC")
+                .register(registry);
+            FunctionCounter.builder("task.events.stalls", taskEventService, TaskEventService::getStallCount)
+                .description("Conexões SSE encerradas por envio preso além de tasks.events.send-timeout")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder admissionMetrics(ObjectProvider<AdmissionLimiter> admissionLimiter) {
+        return registry -> admissionLimiter.ifAvailable(limiter -> {
+            Gauge.builder("admission.limit", limiter, AdmissionLimiter::getLimit)
+                .description("Limite adaptativo de requisições simultâneas")
+                .register(registry);
+            Gauge.builder("admission.inflight", limiter, AdmissionLimiter::getInFlight)
+                .description("Requisições admitidas em andamento")
+                .register(registry);
+            Gauge.builder("admission.inflight.cheap", limiter, AdmissionLimiter::getCheapInFlight)
+                .description("Requisições de endpoints baratos em andamento (fatia garantida)")
+                .register(registry);
+            Gauge.builder("admission.latency.baseline", limiter, AdmissionLimiter::getBaselineMillis)
+                .baseUnit("milliseconds")
+                .description("Latência média de referência usada no cálculo do limite")
+                .register(registry);
+            Gauge.builder("admission.latency.window", limiter, AdmissionLimiter::getWindowMillis)
+                .baseUnit("milliseconds")
+                .description("Latência média da última janela")
+                .register(registry);
+            for (AdmissionLimiter.RequestClass requestClass : AdmissionLimiter.RequestClass.values()) {
+                FunctionCounter.builder("admission.rejected", limiter, l -> l.getRejected(requestClass))
+                    .tag("class", requestClass.name().toLowerCase())
+                    .description("Requisições recusadas com 503 pelo controle de admissão")
+                    .register(registry);
+            }
+        });
+    }
+
+    // Só com réplicas configuradas (ReplicaConfig)
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ObjectProvider<ReplicaRouter> replicaRouter) {
+        return registry -> replicaRouter.ifAvailable(router -> {
+            replicaReads(registry, "replica", router, ReplicaRouter::getReplicaReads);
+            replicaReads(registry, "primary_sticky", router, ReplicaRouter::getStickyReads);
+            replicaReads(registry, "primary_fallback", router, ReplicaRouter::getFallbackReads);
+            for (String name : router.getReplicaNames()) {
+                Gauge.builder("datasource.replica.lag", router, r -> r.getLagMillis(name))
+                    .tag("replica", name)
+                    .baseUnit("milliseconds")
+                    .description("Atraso de replicação medido na última sonda (-1 se a réplica não respondeu)")
+                    .register(registry);
+            }
+        });
+    }
+
+    private static void replicaReads(MeterRegistry registry, String target, ReplicaRouter router,
+                                     ToDoubleFunction<ReplicaRouter> value) {
+        FunctionCounter.builder("datasource.readonly.transactions", router, value)
+            .tag("target", target)
+            .description("Transações readOnly por destino: réplica, primário por leitura das próprias escritas ou por falta de réplica")
+            .register(registry);
+    }
+
+    private static void jwtVerifications(MeterRegistry registry, String result,
+                                         JwtService jwtService,
+                                         ToDoubleFunction<JwtService.VerificationStats> value) {
+        FunctionCounter.builder("jwt.verifications", jwtService, service -> value.applyAsDouble(service.getVerificationStats()))
+            .tag("result", result)
+            .description("Verificações completas de assinatura/expiração de JWT (fora do cache)")
+            .register(registry);
+    }
+}
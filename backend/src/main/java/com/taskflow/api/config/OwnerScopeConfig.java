@@ -0,0 +1,25 @@
+// backend/src/main/java/com/taskflow/api/config/OwnerScopeConfig.java
+package com.taskflow.api.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionManager;
+
+@Configuration
+public class OwnerScopeConfig {
+    
+    // Substitui o JpaTransactionManager da autoconfiguração (mesmo nome, mesmos customizers)
+    @Bean
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                         ObjectProvider<TransactionManagerCustomizers> customizers) {
+        OwnerScopedTransactionManager transactionManager = new OwnerScopedTransactionManager();
+        transactionManager.setEntityManagerFactory(entityManagerFactory);
+        // Sobrecarga de TransactionManager: a de PlatformTransactionManager será removida
+        customizers.ifAvailable(available -> available.customize((TransactionManager) transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,45 @@
+// backend/src/main/java/com/taskflow/api/config/OwnerScopedTransactionManager.java
+package com.taskflow.api.config;
+
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Gerenciador de transações JPA que escopa as consultas de {@link Task} pelo usuário autenticado:
+ * ao abrir o EntityManager da transação, habilita o filtro {@link Task#OWNER_FILTER} com o id do
+ * principal, e o Hibernate acrescenta {@code user_id = :ownerId} a toda consulta HQL/Criteria
+ * sobre tarefas. Sem principal (jobs agendados, inicialização) o filtro fica desligado.
+ *
+ * <p>O filtro é uma segunda barreira, não a única: ele só existe quando a transação abre um
+ * EntityManager novo com um {@link User} no SecurityContext. As consultas de um usuário continuam
+ * com o predicado de dono explícito ({@code TaskRepository.findOwnedById} e as demais), e o filtro
+ * não se aplica a {@code EntityManager.find}/{@code findById} nem a SQL nativo; os repositórios
+ * JDBC recebem o usuário.
+ */
+public class OwnerScopedTransactionManager extends JpaTransactionManager {
+    
+    @Override
+    protected EntityManager createEntityManagerForTransaction() {
+        EntityManager entityManager = super.createEntityManagerForTransaction();
+        User owner = currentOwner();
+        if (owner != null) {
+            entityManager.unwrap(Session.class)
+                .enableFilter(Task.OWNER_FILTER)
+                .setParameter(Task.OWNER_PARAMETER, owner.getId());
+        }
+        return entityManager;
+    }
+    
+    static User currentOwner() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user;
+        }
+        return null;
+    }
+}
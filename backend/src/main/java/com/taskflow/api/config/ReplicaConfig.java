@@ -0,0 +1,81 @@
+// backend/src/main/java/com/taskflow/api/config/ReplicaConfig.java
+package com.taskflow.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ativada por {@code tasks.datasource.replicas.urls} (perfil replica): o DataSource da aplicação
+ * passa a rotear transações readOnly para as réplicas. O primário continua configurado em
+ * spring.datasource (inclusive spring.datasource.hikari); as réplicas usam as mesmas credenciais,
+ * salvo {@code tasks.datasource.replicas.username/password}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tasks.datasource.replicas", name = "urls")
+public class ReplicaConfig {
+    
+    // Segundos de atraso de replay; 0 quando não há WAL pendente (ou o banco não é réplica)
+    private static final String POSTGRES_LAG_QUERY =
+        "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+        "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+    
+    @Bean
+    public ReplicaRouter replicaRouter(
+            DataSourceProperties properties,
+            MeterRegistry registry,
+            Environment environment,
+            @Value("${tasks.datasource.replicas.urls}") List<String> urls,
+            @Value("${tasks.datasource.replicas.username:}") String username,
+            @Value("${tasks.datasource.replicas.password:}") String password,
+            @Value("${tasks.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${tasks.datasource.replicas.lag-query:" + POSTGRES_LAG_QUERY + "}") String lagQuery,
+            @Value("${tasks.datasource.replicas.max-lag:2000}") long maxLagMillis,
+            @Value("${tasks.datasource.replicas.read-your-writes:5000}") long readYourWritesMillis
+    ) {
+        HikariDataSource primary = pool(properties, registry, "taskflow-primary");
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        
+        List<HikariDataSource> pools = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource pool = pool(properties, registry, "taskflow-replica-" + (i + 1));
+            pool.setJdbcUrl(urls.get(i).trim());
+            if (!username.isEmpty()) {
+                pool.setUsername(username);
+                pool.setPassword(password);
+            }
+            pool.setMaximumPoolSize(maximumPoolSize);
+            pool.setReadOnly(true);
+            pools.add(pool);
+        }
+        return new ReplicaRouter(primary, pools, lagQuery, maxLagMillis, readYourWritesMillis);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRouter replicaRouter) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(replicaRouter));
+    }
+    
+    private static HikariDataSource pool(DataSourceProperties properties, MeterRegistry registry, String name) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName(name);
+        // hikaricp.connections.* por pool (o Actuator só instrumenta DataSources Hikari expostos como bean)
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return pool;
+    }
+}
@@ -0,0 +1,189 @@
+// backend/src/main/java/com/taskflow/api/config/ReplicaRouter.java
+package com.taskflow.api.config;
+
+import com.taskflow.api.entity.User;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decide para qual banco vai cada transação (ver {@link ReplicaRoutingDataSource}):
+ * <ul>
+ *   <li>transações de escrita vão para o primário;</li>
+ *   <li>transações {@code readOnly} vão para uma réplica saudável, em rodízio;</li>
+ *   <li>réplicas com atraso acima de {@code maxLagMillis}, ou que falham na sonda, saem do
+ *       rodízio até a próxima medição; sem nenhuma disponível, a leitura volta ao primário;</li>
+ *   <li>depois que um usuário confirma uma escrita, as leituras dele ficam no primário por
+ *       {@code readYourWritesMillis} (ler o que acabou de escrever). O registro é local à
+ *       instância: atrás de um balanceador sem afinidade, use uma janela maior que o atraso tolerado.</li>
+ * </ul>
+ */
+public class ReplicaRouter {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRouter.class);
+    
+    static final String PRIMARY = "primary";
+    
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final long readYourWritesMillis;
+    
+    private final Map<UUID, Long> recentWriters = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong stickyReads = new AtomicLong();
+    private final AtomicLong fallbackReads = new AtomicLong();
+    
+    public ReplicaRouter(HikariDataSource primary, List<HikariDataSource> replicaPools, String lagQuery,
+                         long maxLagMillis, long readYourWritesMillis) {
+        this.primary = primary;
+        List<Replica> created = new ArrayList<>(replicaPools.size());
+        for (int i = 0; i < replicaPools.size(); i++) {
+            created.add(new Replica("replica-" + (i + 1), replicaPools.get(i)));
+        }
+        this.replicas = Collections.unmodifiableList(created);
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+        this.readYourWritesMillis = readYourWritesMillis;
+    }
+    
+    /** Chave do banco para a conexão que está sendo aberta na transação corrente. */
+    String route() {
+        User owner = OwnerScopedTransactionManager.currentOwner();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (owner != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                UUID ownerId = owner.getId();
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recordWrite(ownerId);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        
+        if (owner != null) {
+            Long writtenAt = recentWriters.get(owner.getId());
+            if (writtenAt != null && System.currentTimeMillis() - writtenAt < readYourWritesMillis) {
+                stickyReads.incrementAndGet();
+                return PRIMARY;
+            }
+        }
+        
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                replicaReads.incrementAndGet();
+                return replica.name;
+            }
+        }
+        fallbackReads.incrementAndGet();
+        return PRIMARY;
+    }
+    
+    /**
+     * Leituras do usuário vão para o primário pela janela de read-your-writes. Chamado no commit
+     * das escritas desta instância e quando outra instância avisa de uma escrita (TaskListCache).
+     */
+    public void recordWrite(UUID userId) {
+        recentWriters.put(userId, System.currentTimeMillis());
+    }
+    
+    /** Mede o atraso de cada réplica e atualiza o rodízio. */
+    @Scheduled(fixedDelayString = "${tasks.datasource.replicas.lag-check-interval:1000}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            try {
+                Double seconds = replica.jdbcTemplate.queryForObject(lagQuery, Double.class);
+                replica.lagMillis = seconds != null ? Math.round(seconds * 1000) : 0;
+                boolean available = replica.lagMillis <= maxLagMillis;
+                if (available != replica.available) {
+                    log.info("Réplica {} {} (atraso {} ms)", replica.name,
+                        available ? "de volta ao rodízio" : "fora do rodízio", replica.lagMillis);
+                }
+                replica.available = available;
+            } catch (RuntimeException e) {
+                if (replica.available) {
+                    log.warn("Réplica {} fora do rodízio: {}", replica.name, e.getMessage());
+                }
+                replica.available = false;
+                replica.lagMillis = -1;
+            }
+        }
+        long expired = System.currentTimeMillis() - readYourWritesMillis;
+        recentWriters.values().removeIf(writtenAt -> writtenAt < expired);
+    }
+    
+    HikariDataSource primary() {
+        return primary;
+    }
+    
+    Map<Object, Object> targets() {
+        Map<Object, Object> targets = new ConcurrentHashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.name, replica.dataSource));
+        return targets;
+    }
+    
+    public List<String> getReplicaNames() {
+        return replicas.stream().map(replica -> replica.name).toList();
+    }
+    
+    /** Atraso medido na última sonda, em ms; -1 se a réplica não respondeu. */
+    public long getLagMillis(String name) {
+        return replicas.stream().filter(replica -> replica.name.equals(name))
+            .findFirst().map(replica -> replica.lagMillis).orElse(-1L);
+    }
+    
+    public long getReplicaReads() {
+        return replicaReads.get();
+    }
+    
+    public long getStickyReads() {
+        return stickyReads.get();
+    }
+    
+    public long getFallbackReads() {
+        return fallbackReads.get();
+    }
+    
+    @PreDestroy
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+    
+    private static final class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        // Fora do rodízio até a primeira medição
+        private volatile boolean available;
+        private volatile long lagMillis = -1;
+        
+        private Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+// backend/src/main/java/com/taskflow/api/config/ReplicaRoutingDataSource.java
+package com.taskflow.api.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * DataSource de roteamento entre o primário e as réplicas, com a escolha feita pelo
+ * {@link ReplicaRouter}. Precisa ficar atrás de um LazyConnectionDataSourceProxy: a conexão
+ * física só é pedida no primeiro comando, quando a transação já está marcada como readOnly.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    
+    private final ReplicaRouter router;
+    
+    public ReplicaRoutingDataSource(ReplicaRouter router) {
+        this.router = router;
+        setTargetDataSources(router.targets());
+        setDefaultTargetDataSource(router.primary());
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return router.route();
+    }
+}
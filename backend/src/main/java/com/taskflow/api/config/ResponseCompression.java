@@ -0,0 +1,70 @@
+// backend/src/main/java/com/taskflow/api/config/ResponseCompression.java
+package com.taskflow.api.config;
+
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip das leituras condicionais (ETag forte) do TaskController. O Tomcat não comprime respostas
+ * com ETag forte, já que o mesmo ETag passaria a valer para dois corpos; então elas são comprimidas
+ * aqui, com as mesmas propriedades {@code server.compression}, e a variante gzip tem ETag próprio
+ * (sufixo {@value #GZIP_SUFFIX}, como o mod_deflate do Apache). As demais respostas seguem com o Tomcat.
+ */
+@Component
+public class ResponseCompression {
+    
+    private static final String GZIP_SUFFIX = "-gzip";
+    
+    private final boolean enabled;
+    private final long minResponseSize;
+    
+    public ResponseCompression(ServerProperties serverProperties) {
+        Compression compression = serverProperties.getCompression();
+        this.enabled = compression.getEnabled();
+        this.minResponseSize = compression.getMinResponseSize().toBytes();
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /** Se a resposta a esta requisição é a variante gzip (decidido antes de carregar o corpo, por causa do 304). */
+    public boolean accepts(WebRequest request) {
+        if (!enabled) {
+            return false;
+        }
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+    
+    /** ETag forte da representação: a variante gzip nunca compartilha o valor da não comprimida. */
+    public String etag(String version, boolean gzip) {
+        return "\"" + version + (gzip ? GZIP_SUFFIX : "") + "\"";
+    }
+    
+    /**
+     * Corpo comprimido, ou {@code null} abaixo de {@code min-response-size} (sai sem compressão).
+     * Depende só do corpo, então o mesmo ETag continua designando os mesmos bytes.
+     */
+    public byte[] compress(byte[] body) {
+        if (!enabled || body.length < minResponseSize) {
+            return null;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,10 @@
+// backend/src/main/java/com/taskflow/api/config/SchedulingConfig.java
+package com.taskflow.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
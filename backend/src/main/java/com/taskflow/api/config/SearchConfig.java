@@ -0,0 +1,49 @@
+// backend/src/main/java/com/taskflow/api/config/SearchConfig.java
+package com.taskflow.api.config;
+
+import com.taskflow.api.repository.PortableTaskSearchRepository;
+import com.taskflow.api.repository.PostgresTaskSearchRepository;
+import com.taskflow.api.repository.TaskSearchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+@Configuration
+public class SearchConfig {
+    
+    private static final Logger log = LoggerFactory.getLogger(SearchConfig.class);
+    
+    private static final String HAS_SEARCH_VECTOR =
+        "SELECT EXISTS (SELECT 1 FROM information_schema.columns " +
+        "WHERE table_schema = current_schema() AND table_name = 'tasks' AND column_name = 'search_vector')";
+    
+    private static final String HAS_TRIGRAM = "SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm')";
+    
+    // O NamedParameterJdbcTemplate só é criado depois das migrações do Flyway (V7 cria search_vector)
+    @Bean
+    public TaskSearchRepository taskSearchRepository(DataSource dataSource, NamedParameterJdbcTemplate jdbcTemplate)
+            throws MetaDataAccessException {
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            return new PortableTaskSearchRepository(jdbcTemplate);
+        }
+        
+        Boolean searchVector = jdbcTemplate.getJdbcTemplate().queryForObject(HAS_SEARCH_VECTOR, Boolean.class);
+        if (!Boolean.TRUE.equals(searchVector)) {
+            log.warn("Coluna tasks.search_vector ausente (migração V7 não aplicada): busca por LIKE, sem índice");
+            return new PortableTaskSearchRepository(jdbcTemplate);
+        }
+        Boolean trigram = jdbcTemplate.getJdbcTemplate().queryForObject(HAS_TRIGRAM, Boolean.class);
+        if (!Boolean.TRUE.equals(trigram)) {
+            log.warn("Extensão pg_trgm ausente: ranking sem similaridade de trigramas e LIKE sem índice");
+        }
+        return new PostgresTaskSearchRepository(jdbcTemplate, Boolean.TRUE.equals(trigram));
+    }
+}
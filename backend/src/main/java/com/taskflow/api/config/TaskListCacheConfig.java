@@ -0,0 +1,43 @@
+// backend/src/main/java/com/taskflow/api/config/TaskListCacheConfig.java
+package com.taskflow.api.config;
+
+import com.taskflow.api.service.PostgresTaskListNotifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Aviso de invalidação do TaskListCache entre instâncias. Só no PostgreSQL (LISTEN/NOTIFY); com
+ * outro banco, ou com {@code tasks.list-cache.notify.enabled=false}, o cache fica local à instância.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tasks.list-cache", name = "enabled", matchIfMissing = true)
+public class TaskListCacheConfig {
+    
+    // null: sem bean (TaskListCache recebe o notifier por ObjectProvider)
+    @Bean
+    @ConditionalOnProperty(prefix = "tasks.list-cache.notify", name = "enabled", matchIfMissing = true)
+    public PostgresTaskListNotifier postgresTaskListNotifier(
+            DataSource dataSource,
+            DataSourceProperties properties,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${tasks.list-cache.notify.poll-interval:50}") int pollIntervalMillis,
+            @Value("${tasks.list-cache.notify.reconnect-delay:5000}") long reconnectDelayMillis
+    ) throws MetaDataAccessException {
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            return null;
+        }
+        // Conexão própria com o primário (spring.datasource), fora do pool e do roteamento de réplicas
+        return new PostgresTaskListNotifier(properties.determineUrl(), properties.determineUsername(),
+            properties.determinePassword(), pollIntervalMillis, reconnectDelayMillis, eventPublisher);
+    }
+}
@@ -0,0 +1,28 @@
+// backend/src/main/java/com/taskflow/api/config/TaskStatusConfig.java
+package com.taskflow.api.config;
+
+import com.taskflow.api.repository.PortableTaskStatusRepository;
+import com.taskflow.api.repository.PostgresTaskStatusRepository;
+import com.taskflow.api.repository.TaskStatusRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+@Configuration
+public class TaskStatusConfig {
+    
+    @Bean
+    public TaskStatusRepository taskStatusRepository(DataSource dataSource, NamedParameterJdbcTemplate jdbcTemplate)
+            throws MetaDataAccessException {
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        if ("PostgreSQL".equalsIgnoreCase(product)) {
+            return new PostgresTaskStatusRepository(jdbcTemplate);
+        }
+        return new PortableTaskStatusRepository(jdbcTemplate);
+    }
+}
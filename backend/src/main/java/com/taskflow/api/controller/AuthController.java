@@ -4,10 +4,12 @@ package com.taskflow.api.controller;
 import com.taskflow.api.dto.auth.AuthResponse;
 import com.taskflow.api.dto.auth.LoginRequest;
 import com.taskflow.api.dto.auth.RegisterRequest;
+import com.taskflow.api.entity.User;
 import com.taskflow.api.service.AuthService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -30,6 +32,7 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
     
+    @CheapEndpoint
     @PostMapping("/refresh")
     public ResponseEntity<AuthResponse> refresh(@RequestHeader("Authorization") String token) {
         String jwt = token.substring(7);
@@ -37,7 +40,15 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
     
+    // Revoga todos os tokens emitidos para o usuário (todas as sessões)
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll(@AuthenticationPrincipal User user) {
+        authService.logoutAll(user);
+        return ResponseEntity.noContent().build();
+    }
+    
     // ENDPOINT DE TESTE
+    @CheapEndpoint
     @GetMapping("/test")
     public ResponseEntity<String> test() {
         return ResponseEntity.ok("Auth controller funcionando perfeitamente!");
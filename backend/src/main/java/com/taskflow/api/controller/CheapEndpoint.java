@@ -0,0 +1,19 @@
+// backend/src/main/java/com/taskflow/api/controller/CheapEndpoint.java
+package com.taskflow.api.controller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Endpoint barato (leitura ou escrita por chave, sem varredura): no controle de admissão
+ * ({@code AdmissionLimiter}) tem uma fatia garantida do limite de concorrência, mesmo quando
+ * listagens, buscas e logins já ocupam o restante.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CheapEndpoint {
+}
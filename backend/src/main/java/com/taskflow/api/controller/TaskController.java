@@ -1,48 +1,131 @@
 // src/main/java/com/taskflow/api/controller/TaskController.java
 package com.taskflow.api.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.config.ResponseCompression;
+import com.taskflow.api.dto.task.BulkTaskRequest;
+import com.taskflow.api.dto.task.BulkTaskResponse;
 import com.taskflow.api.dto.task.TaskRequest;
 import com.taskflow.api.dto.task.TaskResponse;
+import com.taskflow.api.dto.task.TaskSearchResult;
 import com.taskflow.api.entity.Task;
 import com.taskflow.api.entity.User;
+import com.taskflow.api.service.TaskBulkService;
+import com.taskflow.api.service.TaskEventService;
+import com.taskflow.api.service.TaskExportService;
+import com.taskflow.api.service.TaskListCache;
 import com.taskflow.api.service.TaskService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
-import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/tasks")  // SEM /api devido ao context-path
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
 public class TaskController {
     
+    // O navegador guarda a resposta, mas revalida sempre com If-None-Match (304 sem corpo)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    
     @Autowired
     private TaskService taskService;
     
+    @Autowired
+    private TaskBulkService taskBulkService;
+    
+    @Autowired
+    private TaskExportService taskExportService;
+    
+    @Autowired
+    private TaskEventService taskEventService;
+    
+    @Autowired
+    private TaskListCache taskListCache;
+    
+    @Autowired
+    private ResponseCompression compression;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    // Primeira página: servida do cache por usuário (TaskListCache), sem consulta nem serialização
     @GetMapping
-    public ResponseEntity<Page<TaskResponse>> getAllTasks(
+    public ResponseEntity<?> getAllTasks(
             @AuthenticationPrincipal User user,
-            Pageable pageable
+            Pageable pageable,
+            WebRequest request
+    ) {
+        if (pageable.getPageNumber() == 0 && taskListCache.isEnabled()) {
+            String view = "tasks:" + pageable.getPageSize() + ":" + pageable.getSort();
+            return cached(request, taskListCache.get(user, view, () -> taskService.getTasksETag(user),
+                () -> taskService.getAllTasksByUser(user, pageable)));
+        }
+        return conditional(request, taskService.getTasksETag(user),
+            () -> taskService.getAllTasksByUser(user, pageable));
+    }
+    
+    // Modo cursor: ativado pela presença do parâmetro "cursor" (vazio para a primeira página)
+    @GetMapping(params = "cursor")
+    public ResponseEntity<?> getTasksByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeCount,
+            @AuthenticationPrincipal User user,
+            WebRequest request
+    ) {
+        return conditional(request, taskService.getTasksETag(user),
+            () -> taskService.getTasksByCursor(user, cursor, size, includeCount));
+    }
+    
+    // Exportação completa em streaming: ?format=ndjson|csv
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal User user
     ) {
-        Page<TaskResponse> tasks = taskService.getAllTasksByUser(user, pageable);
-        return ResponseEntity.ok(tasks);
+        TaskExportService.Format exportFormat = TaskExportService.Format.from(format);
+        StreamingResponseBody body = out -> taskExportService.export(user, exportFormat, out);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tarefas." + exportFormat.getExtension() + "\"")
+            .body(body);
     }
     
+    // Eventos de alteração das tarefas do usuário (SSE): substitui o recarregamento da lista
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(@AuthenticationPrincipal User user) {
+        SseEmitter emitter = taskEventService.subscribe(user.getId());
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .header("X-Accel-Buffering", "no")   // nginx: não acumular o stream
+            .body(emitter);
+    }
+    
+    @CheapEndpoint
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(
+    public ResponseEntity<?> getTaskById(
             @PathVariable UUID id,
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal User user,
+            WebRequest request
     ) {
-        TaskResponse task = taskService.getTaskByIdAndUser(id, user);
-        return ResponseEntity.ok(task);
+        // Sem ETag (tarefa inexistente ou de outro usuário): segue para o 404 normal
+        return conditional(request, taskService.getTaskETag(id, user),
+            () -> taskService.getTaskByIdAndUser(id, user));
     }
     
     @PostMapping
@@ -54,6 +137,17 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(task);
     }
     
+    // Operações em lote: criação, edição, status e exclusão com resultado por item
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkTaskResponse> bulkOperations(
+            @Valid @RequestBody BulkTaskRequest request,
+            @AuthenticationPrincipal User user
+    ) {
+        BulkTaskResponse response = taskBulkService.execute(request, user);
+        return ResponseEntity.ok(response);
+    }
+    
+    @CheapEndpoint
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable UUID id,
@@ -64,6 +158,7 @@ public class TaskController {
         return ResponseEntity.ok(task);
     }
     
+    @CheapEndpoint
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(
             @PathVariable UUID id,
@@ -74,52 +169,119 @@ public class TaskController {
     }
     
     @GetMapping("/search")
-    public ResponseEntity<List<TaskResponse>> searchTasks(
+    public ResponseEntity<Page<TaskSearchResult>> searchTasks(
             @RequestParam String query,
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal User user,
+            Pageable pageable
     ) {
-        List<TaskResponse> tasks = taskService.searchTasks(query, user);
-        return ResponseEntity.ok(tasks);
+        Page<TaskSearchResult> results = taskService.searchTasks(query, user, pageable);
+        return ResponseEntity.ok(results);
     }
     
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<TaskResponse>> getTasksByStatus(
+    public ResponseEntity<?> getTasksByStatus(
             @PathVariable Task.Status status,
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal User user,
+            WebRequest request
     ) {
-        List<TaskResponse> tasks = taskService.getTasksByStatus(status, user);
-        return ResponseEntity.ok(tasks);
+        return conditional(request, taskService.getTasksETag(user),
+            () -> taskService.getTasksByStatus(status, user));
     }
     
     @GetMapping("/overdue")
-    public ResponseEntity<List<TaskResponse>> getOverdueTasks(
-            @AuthenticationPrincipal User user
+    public ResponseEntity<?> getOverdueTasks(
+            @AuthenticationPrincipal User user,
+            WebRequest request
     ) {
-        List<TaskResponse> tasks = taskService.getOverdueTasks(user);
-        return ResponseEntity.ok(tasks);
+        if (taskListCache.isEnabled()) {
+            return cached(request, taskListCache.get(user, "overdue", () -> taskService.getTasksETag(user),
+                () -> taskService.getOverdueTasks(user)));
+        }
+        return conditional(request, taskService.getTasksETag(user),
+            () -> taskService.getOverdueTasks(user));
     }
     
+    @CheapEndpoint
     @GetMapping("/stats")
-    public ResponseEntity<Map<String, Object>> getTaskStats(
-            @AuthenticationPrincipal User user
+    public ResponseEntity<?> getTaskStats(
+            @AuthenticationPrincipal User user,
+            WebRequest request
     ) {
-        Map<String, Object> stats = taskService.getTaskStatistics(user);
-        return ResponseEntity.ok(stats);
+        return conditional(request, taskService.getStatisticsETag(user),
+            () -> taskService.getTaskStatistics(user));
     }
     
+    @CheapEndpoint
     @PatchMapping("/{id}/status")
     public ResponseEntity<TaskResponse> updateTaskStatus(
             @PathVariable UUID id,
             @RequestParam Task.Status status,
+            @RequestParam(required = false) Long version,
             @AuthenticationPrincipal User user
     ) {
-        TaskResponse task = taskService.updateTaskStatus(id, status, user);
+        TaskResponse task = taskService.updateTaskStatus(id, status, version, user);
         return ResponseEntity.ok(task);
     }
     
     // ENDPOINT DE TESTE
+    @CheapEndpoint
     @GetMapping("/test")
     public ResponseEntity<String> test() {
         return ResponseEntity.ok("Task controller funcionando!");
     }
+    
+    // GET condicional: com If-None-Match igual ao ETag atual responde 304 sem consultar nem serializar.
+    // ETag forte, um por representação: a variante gzip é serializada e comprimida aqui (ResponseCompression)
+    private <T> ResponseEntity<?> conditional(WebRequest request, String version, Supplier<T> body) {
+        if (version == null) {
+            return ResponseEntity.ok(body.get());
+        }
+        boolean gzip = compression.accepts(request);
+        String etag = compression.etag(version, gzip);
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        if (!gzip) {
+            return revalidate(ResponseEntity.ok(), etag).body(body.get());
+        }
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body.get());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar resposta", e);
+        }
+        return json(etag, json, compression.compress(json));
+    }
+    
+    // Mesmo contrato do conditional(), com o corpo já serializado e comprimido
+    private ResponseEntity<byte[]> cached(WebRequest request, TaskListCache.Cached response) {
+        boolean gzip = compression.accepts(request);
+        String etag = compression.etag(response.etag(), gzip);
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        return json(etag, response.json(), gzip ? response.gzip() : null);
+    }
+    
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return revalidate(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag).build();
+    }
+    
+    // gzip == null: corpo pequeno demais para comprimir, sai como está
+    private ResponseEntity<byte[]> json(String etag, byte[] json, byte[] gzip) {
+        ResponseEntity.BodyBuilder response = revalidate(ResponseEntity.ok(), etag).contentType(MediaType.APPLICATION_JSON);
+        if (gzip == null) {
+            return response.body(json);
+        }
+        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+    }
+    
+    private ResponseEntity.BodyBuilder revalidate(ResponseEntity.BodyBuilder response, String etag) {
+        response.eTag(etag).cacheControl(REVALIDATE);
+        if (compression.isEnabled()) {
+            // Caches intermediários não podem servir a variante gzip a quem não a aceita
+            response.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        }
+        return response;
+    }
 }
@@ -0,0 +1,12 @@
+// backend/src/main/java/com/taskflow/api/dto/common/CursorPage.java
+package com.taskflow.api.dto.common;
+
+import java.util.List;
+
+public record CursorPage<T>(
+    List<T> content,
+    int size,
+    String nextCursor,
+    String prevCursor,
+    Long totalElements
+) {}
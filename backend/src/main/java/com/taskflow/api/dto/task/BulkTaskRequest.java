@@ -0,0 +1,26 @@
+// backend/src/main/java/com/taskflow/api/dto/task/BulkTaskRequest.java
+package com.taskflow.api.dto.task;
+
+import com.taskflow.api.entity.Task;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkTaskRequest(
+    @NotEmpty(message = "Informe ao menos uma operação")
+    List<@NotNull(message = "Operação não pode ser nula") Operation> operations
+) {
+    public enum OperationType {
+        CREATE, UPDATE, STATUS, DELETE
+    }
+    
+    // CREATE usa "task"; UPDATE usa "id" e "task"; STATUS usa "id" e "status"; DELETE usa "id"
+    public record Operation(
+        OperationType type,
+        UUID id,
+        TaskRequest task,
+        Task.Status status
+    ) {}
+}
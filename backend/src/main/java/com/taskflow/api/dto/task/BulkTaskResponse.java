@@ -0,0 +1,27 @@
+// backend/src/main/java/com/taskflow/api/dto/task/BulkTaskResponse.java
+package com.taskflow.api.dto.task;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkTaskResponse(
+    int succeeded,
+    int failed,
+    List<ItemResult> results
+) {
+    public enum ItemStatus {
+        CREATED, UPDATED, DELETED, NOT_FOUND, INVALID, CONFLICT
+    }
+    
+    public record ItemResult(
+        int index,
+        UUID id,
+        ItemStatus status,
+        TaskResponse task,
+        String message
+    ) {
+        public boolean isSuccess() {
+            return status == ItemStatus.CREATED || status == ItemStatus.UPDATED || status == ItemStatus.DELETED;
+        }
+    }
+}
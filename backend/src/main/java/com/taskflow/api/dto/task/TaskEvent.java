@@ -0,0 +1,39 @@
+// backend/src/main/java/com/taskflow/api/dto/task/TaskEvent.java
+package com.taskflow.api.dto.task;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+/**
+ * Evento enviado em GET /tasks/events. CREATED/UPDATED trazem a tarefa já no formato das
+ * listagens; DELETED só o id; BULK e RESYNC pedem ao cliente que recarregue a lista.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskEvent(
+    Type type,
+    UUID taskId,
+    TaskResponse task
+) {
+    public enum Type { CREATED, UPDATED, DELETED, BULK, RESYNC }
+    
+    public static TaskEvent created(TaskResponse task) {
+        return new TaskEvent(Type.CREATED, task.id(), task);
+    }
+    
+    public static TaskEvent updated(TaskResponse task) {
+        return new TaskEvent(Type.UPDATED, task.id(), task);
+    }
+    
+    public static TaskEvent deleted(UUID taskId) {
+        return new TaskEvent(Type.DELETED, taskId, null);
+    }
+    
+    public static TaskEvent bulk() {
+        return new TaskEvent(Type.BULK, null, null);
+    }
+    
+    public static TaskEvent resync() {
+        return new TaskEvent(Type.RESYNC, null, null);
+    }
+}
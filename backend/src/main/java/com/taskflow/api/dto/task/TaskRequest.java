@@ -19,7 +19,10 @@ public record TaskRequest(
     UUID categoryId,
     Task.Priority priority,
     Task.Status status,
-    LocalDateTime dueDate
+    LocalDateTime dueDate,
+    
+    // Versão lida pelo cliente (opcional): se a tarefa mudou desde então, a edição é recusada com 409
+    Long version
 ) {
     public TaskRequest {
         if (priority == null) priority = Task.Priority.MEDIUM;
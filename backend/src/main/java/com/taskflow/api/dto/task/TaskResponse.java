@@ -18,21 +18,28 @@ public record TaskResponse(
     LocalDateTime completedAt,
     LocalDateTime createdAt,
     LocalDateTime updatedAt,
-    boolean overdue
+    boolean overdue,
+    long version
 ) {
     public static TaskResponse fromEntity(Task task) {
+        return fromEntity(task, task.getCategory() != null ? CategoryResponse.fromEntity(task.getCategory()) : null);
+    }
+    
+    // Categoria já resolvida (CategoryCache): não inicializa o proxy LAZY de task.getCategory()
+    public static TaskResponse fromEntity(Task task, CategoryResponse category) {
         return new TaskResponse(
             task.getId(),
             task.getTitle(),
             task.getDescription(),
-            task.getCategory() != null ? CategoryResponse.fromEntity(task.getCategory()) : null,
+            category,
             task.getPriority(),
             task.getStatus(),
             task.getDueDate(),
             task.getCompletedAt(),
             task.getCreatedAt(),
             task.getUpdatedAt(),
-            task.isOverdue()
+            task.isOverdue(),
+            task.getVersion()
         );
     }
 }
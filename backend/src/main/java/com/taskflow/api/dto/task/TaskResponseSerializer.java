@@ -0,0 +1,172 @@
+// backend/src/main/java/com/taskflow/api/dto/task/TaskResponseSerializer.java
+package com.taskflow.api.dto.task;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.taskflow.api.dto.category.CategoryResponse;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serializador registrado de {@link TaskResponse} (ver JsonConfig): escreve os campos direto no
+ * gerador, sem introspecção por reflexão, com nomes pré-codificados e datas formatadas em um
+ * buffer de caracteres. A categoria, repetida em muitas linhas de uma página, é escrita a partir
+ * de um fragmento JSON já pronto, guardado por id e refeito quando a categoria muda.
+ *
+ * <p>A saída é idêntica à do Jackson padrão do Spring Boot (mesma ordem de campos, datas ISO-8601
+ * sem fuso, nulos incluídos).
+ */
+public class TaskResponseSerializer extends StdSerializer<TaskResponse> {
+    
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString CATEGORY = new SerializedString("category");
+    private static final SerializedString PRIORITY = new SerializedString("priority");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString DUE_DATE = new SerializedString("dueDate");
+    private static final SerializedString COMPLETED_AT = new SerializedString("completedAt");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString OVERDUE = new SerializedString("overdue");
+    private static final SerializedString VERSION = new SerializedString("version");
+    
+    private static final JsonFactory FRAGMENT_FACTORY = new JsonFactory();
+    
+    // Categorias são poucas e globais: no máximo uma entrada por id
+    private final Map<UUID, CategoryFragment> categoryFragments = new ConcurrentHashMap<>();
+    
+    public TaskResponseSerializer() {
+        super(TaskResponse.class);
+    }
+    
+    @Override
+    public void serialize(TaskResponse task, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(task);
+        gen.writeFieldName(ID);
+        writeUuid(task.id(), gen);
+        gen.writeFieldName(TITLE);
+        gen.writeString(task.title());
+        gen.writeFieldName(DESCRIPTION);
+        gen.writeString(task.description());
+        gen.writeFieldName(CATEGORY);
+        if (task.category() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeRawValue(categoryFragment(task.category()));
+        }
+        gen.writeFieldName(PRIORITY);
+        gen.writeString(task.priority() != null ? task.priority().name() : null);
+        gen.writeFieldName(STATUS);
+        gen.writeString(task.status() != null ? task.status().name() : null);
+        gen.writeFieldName(DUE_DATE);
+        writeDateTime(task.dueDate(), gen);
+        gen.writeFieldName(COMPLETED_AT);
+        writeDateTime(task.completedAt(), gen);
+        gen.writeFieldName(CREATED_AT);
+        writeDateTime(task.createdAt(), gen);
+        gen.writeFieldName(UPDATED_AT);
+        writeDateTime(task.updatedAt(), gen);
+        gen.writeFieldName(OVERDUE);
+        gen.writeBoolean(task.overdue());
+        gen.writeFieldName(VERSION);
+        gen.writeNumber(task.version());
+        gen.writeEndObject();
+    }
+    
+    private String categoryFragment(CategoryResponse category) {
+        CategoryFragment cached = categoryFragments.get(category.id());
+        if (cached != null && (cached.source() == category || cached.source().equals(category))) {
+            return cached.json();
+        }
+        CategoryFragment fragment = new CategoryFragment(category, encode(category));
+        categoryFragments.put(category.id(), fragment);
+        return fragment.json();
+    }
+    
+    private static String encode(CategoryResponse category) {
+        StringWriter json = new StringWriter(160);
+        try (JsonGenerator gen = FRAGMENT_FACTORY.createGenerator(json)) {
+            gen.writeStartObject();
+            gen.writeFieldName(ID);
+            writeUuid(category.id(), gen);
+            gen.writeStringField("name", category.name());
+            gen.writeStringField("color", category.color());
+            gen.writeStringField("icon", category.icon());
+            gen.writeFieldName(CREATED_AT);
+            writeDateTime(category.createdAt(), gen);
+            gen.writeFieldName(UPDATED_AT);
+            writeDateTime(category.updatedAt(), gen);
+            gen.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return json.toString();
+    }
+    
+    private static void writeUuid(UUID id, JsonGenerator gen) throws IOException {
+        if (id == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(id.toString());
+        }
+    }
+    
+    /** Mesmo texto de {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}, sem passar pelo formatador. */
+    static void writeDateTime(LocalDateTime value, JsonGenerator gen) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 1000 || year > 9999) {
+            gen.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+        char[] buffer = new char[29];
+        int length = 0;
+        length = digits(buffer, length, year, 4);
+        buffer[length++] = '-';
+        length = digits(buffer, length, value.getMonthValue(), 2);
+        buffer[length++] = '-';
+        length = digits(buffer, length, value.getDayOfMonth(), 2);
+        buffer[length++] = 'T';
+        length = digits(buffer, length, value.getHour(), 2);
+        buffer[length++] = ':';
+        length = digits(buffer, length, value.getMinute(), 2);
+        buffer[length++] = ':';
+        length = digits(buffer, length, value.getSecond(), 2);
+        int nano = value.getNano();
+        if (nano > 0) {
+            // Fração com até 9 dígitos, sem zeros à direita
+            buffer[length++] = '.';
+            int fractionDigits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                fractionDigits--;
+            }
+            length = digits(buffer, length, nano, fractionDigits);
+        }
+        gen.writeString(buffer, 0, length);
+    }
+    
+    private static int digits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + width;
+    }
+    
+    private record CategoryFragment(CategoryResponse source, String json) {}
+}
@@ -0,0 +1,46 @@
+// backend/src/main/java/com/taskflow/api/dto/task/TaskRow.java
+package com.taskflow.api.dto.task;
+
+import com.taskflow.api.dto.category.CategoryResponse;
+import com.taskflow.api.entity.Task;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Linha das consultas de projeção das listagens (TaskRepository.TASK_ROW_SELECT): colunas da
+ * tarefa e id da categoria sem JOIN. {@code overdue} é a coluna persistida (recalculada nas
+ * escritas e virada pelo OverdueSweeper quando o prazo passa), não uma expressão da consulta.
+ * A categoria é resolvida pelo CategoryCache ao montar o {@link TaskResponse}.
+ */
+public record TaskRow(
+    UUID id,
+    String title,
+    String description,
+    UUID categoryId,
+    Task.Priority priority,
+    Task.Status status,
+    LocalDateTime dueDate,
+    LocalDateTime completedAt,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    boolean overdue,
+    long version
+) {
+    public TaskResponse toResponse(CategoryResponse category) {
+        return new TaskResponse(
+            id,
+            title,
+            description,
+            category,
+            priority,
+            status,
+            dueDate,
+            completedAt,
+            createdAt,
+            updatedAt,
+            overdue,
+            version
+        );
+    }
+}
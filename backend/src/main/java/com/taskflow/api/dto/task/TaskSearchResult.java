@@ -0,0 +1,8 @@
+// backend/src/main/java/com/taskflow/api/dto/task/TaskSearchResult.java
+package com.taskflow.api.dto.task;
+
+public record TaskSearchResult(
+    TaskResponse task,
+    double rank,
+    String highlight
+) {}
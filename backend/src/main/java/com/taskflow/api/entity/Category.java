@@ -2,6 +2,7 @@
 package com.taskflow.api.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.taskflow.api.service.CategoryCacheInvalidator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -13,6 +14,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "categories")
+@EntityListeners(CategoryCacheInvalidator.class)
 public class Category {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -1,17 +1,33 @@
 // src/main/java/com/taskflow/api/entity/Task.java
 package com.taskflow.api.entity;
 
+import com.taskflow.api.service.TaskDeadlineListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tasks")
+@EntityListeners(TaskDeadlineListener.class)
+// Índices das consultas: migrações em db/migration (aqui só o usado pelo esquema gerado no H2)
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_user_created_id", columnList = "user_id, created_at DESC, id DESC")
+})
+// Escopo por dono: habilitado em toda transação com usuário autenticado (OwnerScopedTransactionManager)
+@FilterDef(name = Task.OWNER_FILTER,
+           parameters = @ParamDef(name = Task.OWNER_PARAMETER, type = UUID.class),
+           defaultCondition = "user_id = :" + Task.OWNER_PARAMETER)
+@Filter(name = Task.OWNER_FILTER)
 public class Task {
+    public static final String OWNER_FILTER = "taskOwner";
+    public static final String OWNER_PARAMETER = "ownerId";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -30,7 +46,8 @@ public class Task {
     @Column(length = 1000)
     private String description;
     
-    @ManyToOne(fetch = FetchType.EAGER)
+    // LAZY: as leituras resolvem a categoria pelo CategoryCache a partir da chave estrangeira
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
     
@@ -48,12 +65,22 @@ public class Task {
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
     
+    // Marcador persistido de vencimento: calculado nas escritas e virado pelo OverdueSweeper
+    // quando o prazo passa; listagens e contagens de vencidas filtram por ele, sem relógio por linha
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean overdue = false;
+    
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
     
     @Column(name = "updated_at")
     private LocalDateTime updatedAt = LocalDateTime.now();
     
+    // Controle otimista: edições concorrentes da mesma versão resultam em 409
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+    
     // Constructors
     public Task() {}
     
@@ -106,12 +133,14 @@ public class Task {
             this.completedAt = null;
         }
         this.updatedAt = LocalDateTime.now();
+        refreshOverdue();
     }
     
     public LocalDateTime getDueDate() { return dueDate; }
     public void setDueDate(LocalDateTime dueDate) {
         this.dueDate = dueDate;
         this.updatedAt = LocalDateTime.now();
+        refreshOverdue();
     }
     
     public LocalDateTime getCompletedAt() { return completedAt; }
@@ -123,6 +152,15 @@ public class Task {
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
     
+    public boolean isOverdue() { return overdue; }
+    
+    public long getVersion() { return version; }
+    
+    @PrePersist
+    public void prePersist() {
+        refreshOverdue();
+    }
+    
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
@@ -138,7 +176,13 @@ public class Task {
     }
     
     // Utility methods
-    public boolean isOverdue() {
-        return dueDate != null && dueDate.isBefore(LocalDateTime.now()) && status != Status.COMPLETED;
+    
+    /** Prazo ainda em aberto: sem marcador, com data e não concluída (o sweeper acompanha estas). */
+    public boolean isAwaitingDeadline() {
+        return !overdue && dueDate != null && status != Status.COMPLETED;
+    }
+    
+    private void refreshOverdue() {
+        this.overdue = dueDate != null && dueDate.isBefore(LocalDateTime.now()) && status != Status.COMPLETED;
     }
 }
@@ -0,0 +1,95 @@
+// backend/src/main/java/com/taskflow/api/entity/TaskStatistics.java
+package com.taskflow.api.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Contadores de tarefas por usuário, mantidos na mesma transação das escritas em tasks
+@Entity
+@Table(name = "task_statistics")
+public class TaskStatistics {
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+    
+    @Column(name = "total_tasks", nullable = false)
+    private long totalTasks;
+    
+    @Column(name = "pending_tasks", nullable = false)
+    private long pendingTasks;
+    
+    @Column(name = "in_progress_tasks", nullable = false)
+    private long inProgressTasks;
+    
+    @Column(name = "completed_tasks", nullable = false)
+    private long completedTasks;
+    
+    @Column(name = "cancelled_tasks", nullable = false)
+    private long cancelledTasks;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt = LocalDateTime.now();
+    
+    // Constructors
+    public TaskStatistics() {}
+    
+    public TaskStatistics(UUID userId) {
+        this.userId = userId;
+    }
+    
+    // Getters and Setters
+    public UUID getUserId() { return userId; }
+    public void setUserId(UUID userId) { this.userId = userId; }
+    
+    public long getTotalTasks() { return totalTasks; }
+    public void setTotalTasks(long totalTasks) { this.totalTasks = totalTasks; }
+    
+    public long getPendingTasks() { return pendingTasks; }
+    public void setPendingTasks(long pendingTasks) { this.pendingTasks = pendingTasks; }
+    
+    public long getInProgressTasks() { return inProgressTasks; }
+    public void setInProgressTasks(long inProgressTasks) { this.inProgressTasks = inProgressTasks; }
+    
+    public long getCompletedTasks() { return completedTasks; }
+    public void setCompletedTasks(long completedTasks) { this.completedTasks = completedTasks; }
+    
+    public long getCancelledTasks() { return cancelledTasks; }
+    public void setCancelledTasks(long cancelledTasks) { this.cancelledTasks = cancelledTasks; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    // Utility methods
+    public long getCount(Task.Status status) {
+        return switch (status) {
+            case PENDING -> pendingTasks;
+            case IN_PROGRESS -> inProgressTasks;
+            case COMPLETED -> completedTasks;
+            case CANCELLED -> cancelledTasks;
+        };
+    }
+    
+    public void setCount(Task.Status status, long count) {
+        switch (status) {
+            case PENDING -> pendingTasks = count;
+            case IN_PROGRESS -> inProgressTasks = count;
+            case COMPLETED -> completedTasks = count;
+            case CANCELLED -> cancelledTasks = count;
+        }
+    }
+    
+    public boolean sameCountsAs(TaskStatistics other) {
+        return totalTasks == other.totalTasks
+            && pendingTasks == other.pendingTasks
+            && inProgressTasks == other.inProgressTasks
+            && completedTasks == other.completedTasks
+            && cancelledTasks == other.cancelledTasks;
+    }
+}
@@ -0,0 +1,8 @@
+// backend/src/main/java/com/taskflow/api/exception/ConflictException.java
+package com.taskflow.api.exception;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
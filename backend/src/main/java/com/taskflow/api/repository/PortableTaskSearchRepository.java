@@ -0,0 +1,84 @@
+// backend/src/main/java/com/taskflow/api/repository/PortableTaskSearchRepository.java
+package com.taskflow.api.repository;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Busca equivalente para bancos sem full-text search do PostgreSQL (H2 nos testes e
+ * benchmarks): LIKE sem índice, ranking por onde o termo aparece (título vale mais que
+ * descrição) e trecho destacado montado em Java. Mesmo contrato de paginação e destaque.
+ */
+@Timed(value = "taskflow.repository", histogram = true)
+public class PortableTaskSearchRepository implements TaskSearchRepository {
+    
+    private static final int SNIPPET_CONTEXT = 60;
+    
+    private static final String MATCH =
+        "FROM tasks t " +
+        "WHERE t.user_id = :userId " +
+        "AND (LOWER(t.title) LIKE :pattern OR LOWER(t.description) LIKE :pattern) ";
+    
+    private static final String SEARCH_SQL =
+        "SELECT t.id, t.title, t.description, " +
+        "  (CASE WHEN LOWER(t.title) LIKE :pattern THEN 2 ELSE 0 END + " +
+        "   CASE WHEN LOWER(t.description) LIKE :pattern THEN 1 ELSE 0 END) AS rank " +
+        MATCH +
+        "ORDER BY rank DESC, t.created_at DESC, t.id " +
+        "LIMIT :limit OFFSET :offset";
+    
+    private static final String COUNT_SQL = "SELECT COUNT(*) " + MATCH;
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    public PortableTaskSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public Page<TaskSearchHit> search(UUID userId, String query, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("userId", userId)
+            .addValue("pattern", TaskSearchRepository.likePattern(query))
+            .addValue("limit", pageable.getPageSize())
+            .addValue("offset", pageable.getOffset());
+        
+        String needle = query.toLowerCase();
+        List<TaskSearchHit> hits = jdbcTemplate.query(SEARCH_SQL, params, (rs, rowNum) -> {
+            String description = rs.getString("description");
+            String text = description != null && description.toLowerCase().contains(needle)
+                ? description
+                : rs.getString("title");
+            return new TaskSearchHit(rs.getObject("id", UUID.class), rs.getDouble("rank"), snippet(text, needle));
+        });
+        
+        long total = hits.size() < pageable.getPageSize() && pageable.getOffset() == 0
+            ? hits.size()
+            : jdbcTemplate.queryForObject(COUNT_SQL, params, Long.class);
+        return new PageImpl<>(hits, pageable, total);
+    }
+    
+    static String snippet(String text, String needle) {
+        if (text == null) {
+            return null;
+        }
+        int index = text.toLowerCase().indexOf(needle);
+        if (index < 0) {
+            return text.length() > SNIPPET_CONTEXT * 2 ? text.substring(0, SNIPPET_CONTEXT * 2) + "…" : text;
+        }
+        int start = Math.max(0, index - SNIPPET_CONTEXT);
+        int end = Math.min(text.length(), index + needle.length() + SNIPPET_CONTEXT);
+        return (start > 0 ? "…" : "")
+            + text.substring(start, index)
+            + HIGHLIGHT_START + text.substring(index, index + needle.length()) + HIGHLIGHT_END
+            + text.substring(index + needle.length(), end)
+            + (end < text.length() ? "…" : "");
+    }
+}
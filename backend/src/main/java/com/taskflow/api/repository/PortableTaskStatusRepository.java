@@ -0,0 +1,59 @@
+// backend/src/main/java/com/taskflow/api/repository/PortableTaskStatusRepository.java
+package com.taskflow.api.repository;
+
+import com.taskflow.api.entity.Task;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Troca de status para bancos sem UPDATE ... RETURNING (H2 nos testes e benchmarks): lê o
+ * status anterior com a linha bloqueada, atualiza e relê a linha. Mesmo contrato e mesmas
+ * regras da versão do PostgreSQL, em três comandos.
+ */
+@Timed(value = "taskflow.repository", histogram = true)
+public class PortableTaskStatusRepository implements TaskStatusRepository {
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    public PortableTaskStatusRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public Optional<StatusChange> updateStatus(UUID id, UUID userId, Long expectedVersion, Task.Status status,
+                                               LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("userId", userId)
+            .addValue("version", expectedVersion)
+            .addValue("status", status.name())
+            .addValue("completed", status == Task.Status.COMPLETED)
+            .addValue("now", now);
+        
+        List<String> previous = jdbcTemplate.queryForList(
+            "SELECT status FROM tasks WHERE id = :id AND user_id = :userId" +
+            (expectedVersion != null ? " AND version = :version" : "") + " FOR UPDATE",
+            params, String.class);
+        if (previous.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        jdbcTemplate.update("UPDATE tasks t SET " + SET_STATUS + "WHERE t.id = :id", params);
+        return Optional.of(new StatusChange(
+            jdbcTemplate.queryForObject("SELECT " + ROW_COLUMNS + " FROM tasks t WHERE t.id = :id", params,
+                (rs, rowNum) -> TaskStatusRepository.mapRow(rs)),
+            Task.Status.valueOf(previous.get(0))
+        ));
+    }
+    
+    @Override
+    public boolean[] updateStatuses(List<BufferedStatus> updates) {
+        return TaskStatusRepository.batchUpdate(jdbcTemplate, updates);
+    }
+}
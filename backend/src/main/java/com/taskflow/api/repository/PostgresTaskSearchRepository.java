@@ -0,0 +1,93 @@
+// backend/src/main/java/com/taskflow/api/repository/PostgresTaskSearchRepository.java
+package com.taskflow.api.repository;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Busca com full-text search do PostgreSQL. A coluna gerada {@code search_vector} (título com
+ * peso A, descrição com peso B, migração V7) é servida por um índice GIN; índices GIN de
+ * trigramas em {@code lower(title)} e {@code lower(description)} atendem os trechos de palavra
+ * que o tsquery não cobre, mantendo o comportamento do LIKE anterior.
+ *
+ * <p>Sem a extensão pg_trgm o LIKE continua valendo (sem índice) e o ranking usa só
+ * {@code ts_rank_cd}; {@code SearchConfig} informa o que o banco tem.
+ */
+@Timed(value = "taskflow.repository", histogram = true)
+public class PostgresTaskSearchRepository implements TaskSearchRepository {
+    
+    static final String TEXT_SEARCH_CONFIG = "portuguese";
+    
+    private static final String MATCH =
+        "FROM tasks t, websearch_to_tsquery('" + TEXT_SEARCH_CONFIG + "', :query) q " +
+        "WHERE t.user_id = :userId " +
+        "AND (t.search_vector @@ q OR lower(t.title) LIKE :pattern OR lower(t.description) LIKE :pattern) ";
+    
+    private static final String RANK = "ts_rank_cd(t.search_vector, q)";
+    
+    // similarity() vem do pg_trgm
+    private static final String TRIGRAM_RANK = RANK + " + similarity(lower(t.title), lower(:query))";
+    
+    private static final String HEADLINE_OPTIONS =
+        "StartSel=" + HIGHLIGHT_START + ", StopSel=" + HIGHLIGHT_END + ", MaxFragments=2, MaxWords=18, MinWords=6";
+    
+    private static final String COUNT_SQL = "SELECT count(*) " + MATCH;
+    
+    // O plano genérico que o PostgreSQL adota para a consulta preparada depois de algumas execuções
+    // não conhece user_id nem o padrão: varre os índices GIN de todos os usuários antes de filtrar
+    // pelo dono (470 ms contra 71 ms do plano com os valores, 1M de tarefas). SET LOCAL vale só para
+    // a transação de TaskService.searchTasks.
+    private static final String FORCE_CUSTOM_PLAN = "SET LOCAL plan_cache_mode = force_custom_plan";
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String searchSql;
+    
+    public PostgresTaskSearchRepository(NamedParameterJdbcTemplate jdbcTemplate, boolean trigram) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.searchSql = searchSql(trigram ? TRIGRAM_RANK : RANK);
+    }
+    
+    // ts_headline é caro: calculado só para as linhas da página, depois do ORDER BY/LIMIT
+    private static String searchSql(String rank) {
+        return "SELECT p.id, p.rank, ts_headline('" + TEXT_SEARCH_CONFIG + "', " +
+            "  coalesce(p.description, p.title), websearch_to_tsquery('" + TEXT_SEARCH_CONFIG + "', :query), " +
+            "  :headlineOptions) AS snippet " +
+            "FROM (" +
+            "  SELECT t.id, t.title, t.description, t.created_at, " + rank + " AS rank " +
+            "  " + MATCH +
+            "  ORDER BY rank DESC, t.created_at DESC, t.id " +
+            "  LIMIT :limit OFFSET :offset" +
+            ") p " +
+            "ORDER BY p.rank DESC, p.created_at DESC, p.id";
+    }
+    
+    @Override
+    public Page<TaskSearchHit> search(UUID userId, String query, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("userId", userId)
+            .addValue("query", query)
+            .addValue("pattern", TaskSearchRepository.likePattern(query))
+            .addValue("limit", pageable.getPageSize())
+            .addValue("offset", pageable.getOffset())
+            .addValue("headlineOptions", HEADLINE_OPTIONS);
+        
+        jdbcTemplate.getJdbcTemplate().execute(FORCE_CUSTOM_PLAN);
+        List<TaskSearchHit> hits = jdbcTemplate.query(searchSql, params, (rs, rowNum) -> new TaskSearchHit(
+            rs.getObject("id", UUID.class),
+            rs.getDouble("rank"),
+            rs.getString("snippet")
+        ));
+        
+        long total = hits.size() < pageable.getPageSize() && pageable.getOffset() == 0
+            ? hits.size()
+            : jdbcTemplate.queryForObject(COUNT_SQL, params, Long.class);
+        return new PageImpl<>(hits, pageable, total);
+    }
+}
@@ -0,0 +1,60 @@
+// backend/src/main/java/com/taskflow/api/repository/PostgresTaskStatusRepository.java
+package com.taskflow.api.repository;
+
+import com.taskflow.api.entity.Task;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Troca de status em um único comando no PostgreSQL: a CTE bloqueia a linha (FOR UPDATE) e
+ * guarda o status anterior, o UPDATE aplica as regras e o RETURNING devolve a linha nova.
+ * Um ida e volta ao banco, sem SELECT prévio nem dirty checking.
+ */
+@Timed(value = "taskflow.repository", histogram = true)
+public class PostgresTaskStatusRepository implements TaskStatusRepository {
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    public PostgresTaskStatusRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public Optional<StatusChange> updateStatus(UUID id, UUID userId, Long expectedVersion, Task.Status status,
+                                               LocalDateTime now) {
+        String sql =
+            "WITH previous AS (" +
+            "  SELECT id, status FROM tasks " +
+            "  WHERE id = :id AND user_id = :userId" + (expectedVersion != null ? " AND version = :version" : "") +
+            "  FOR UPDATE" +
+            ") " +
+            "UPDATE tasks t SET " + SET_STATUS +
+            "FROM previous WHERE t.id = previous.id " +
+            "RETURNING " + ROW_COLUMNS + ", previous.status AS previous_status";
+        
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("userId", userId)
+            .addValue("version", expectedVersion)
+            .addValue("status", status.name())
+            .addValue("completed", status == Task.Status.COMPLETED)
+            .addValue("now", now);
+        
+        List<StatusChange> changes = jdbcTemplate.query(sql, params, (rs, rowNum) -> new StatusChange(
+            TaskStatusRepository.mapRow(rs),
+            Task.Status.valueOf(rs.getString("previous_status"))
+        ));
+        return changes.stream().findFirst();
+    }
+    
+    @Override
+    public boolean[] updateStatuses(List<BufferedStatus> updates) {
+        return TaskStatusRepository.batchUpdate(jdbcTemplate, updates);
+    }
+}
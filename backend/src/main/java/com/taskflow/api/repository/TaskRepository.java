@@ -1,58 +1,203 @@
 // backend/src/main/java/com/taskflow/api/repository/TaskRepository.java
 package com.taskflow.api.repository;
 
+import com.taskflow.api.dto.task.TaskRow;
 import com.taskflow.api.entity.Task;
 import com.taskflow.api.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, UUID> {
-    
+
+    // Projeção direta em TaskRow: sem entidades gerenciadas nem snapshots de dirty checking;
+    // só a chave estrangeira da categoria (sem JOIN) e o marcador persistido de vencimento
+    String TASK_ROW_SELECT =
+        "SELECT new com.taskflow.api.dto.task.TaskRow(" +
+        "t.id, t.title, t.description, t.category.id, " +
+        "t.priority, t.status, t.dueDate, t.completedAt, t.createdAt, t.updatedAt, t.overdue, t.version) " +
+        "FROM Task t ";
+
+    // Vencidas pelo marcador; "status <> COMPLETED" casa o predicado do índice parcial
+    // idx_tasks_user_open_due (user_id, due_date) INCLUDE (overdue), que cobre a contagem sozinho
+    String OVERDUE_WHERE = "WHERE t.user = :user AND t.status <> 'COMPLETED' AND t.overdue = true ";
+
     // Buscar tarefas do usuário
     Page<Task> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
     List<Task> findByUserAndStatusOrderByCreatedAtDesc(User user, Task.Status status);
     List<Task> findByUserAndPriorityOrderByCreatedAtDesc(User user, Task.Priority priority);
-    
+
+    // Listagens somente leitura (projeção)
+    @Query(value = TASK_ROW_SELECT + "WHERE t.user = :user ORDER BY t.createdAt DESC",
+           countQuery = "SELECT COUNT(t) FROM Task t WHERE t.user = :user")
+    Page<TaskRow> findRowsByUser(@Param("user") User user, Pageable pageable);
+
+    @Query(TASK_ROW_SELECT + "WHERE t.user = :user AND t.status = :status ORDER BY t.createdAt DESC")
+    List<TaskRow> findRowsByUserAndStatus(@Param("user") User user, @Param("status") Task.Status status);
+
+    @Query(TASK_ROW_SELECT + OVERDUE_WHERE + "ORDER BY t.dueDate")
+    List<TaskRow> findOverdueRows(@Param("user") User user);
+
+    @Query(TASK_ROW_SELECT + "WHERE t.id = :id AND t.user = :user")
+    Optional<TaskRow> findRowByIdAndUser(@Param("id") UUID id, @Param("user") User user);
+
+    // Paginação por cursor (keyset) sobre o índice (user_id, created_at DESC, id DESC).
+    // O "createdAt <=" / ">=" redundante delimita o início da faixa no índice.
+    @Query(TASK_ROW_SELECT + "WHERE t.user = :user ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskRow> findFirstByCursor(@Param("user") User user, Pageable limit);
+
+    @Query(TASK_ROW_SELECT + "WHERE t.user = :user AND t.createdAt <= :createdAt " +
+           "AND (t.createdAt < :createdAt OR t.id < :id) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskRow> findAfterCursor(
+        @Param("user") User user,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") UUID id,
+        Pageable limit
+    );
+
+    @Query(TASK_ROW_SELECT + "WHERE t.user = :user AND t.createdAt >= :createdAt " +
+           "AND (t.createdAt > :createdAt OR t.id > :id) " +
+           "ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskRow> findBeforeCursor(
+        @Param("user") User user,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") UUID id,
+        Pageable limit
+    );
+
     // Buscar tarefas por categoria
     List<Task> findByUserAndCategoryIdOrderByCreatedAtDesc(User user, UUID categoryId);
-    
-    // Buscar tarefas por título/descrição
-    @Query("SELECT t FROM Task t WHERE t.user = :user AND " +
-           "(LOWER(t.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(t.description) LIKE LOWER(CONCAT('%', :search, '%')))")
-    List<Task> findByUserAndTitleOrDescriptionContainingIgnoreCase(
-        @Param("user") User user, 
-        @Param("search") String search
-    );
-    
+
+    // Busca por título/descrição: ver TaskSearchRepository
+
     // Tarefas vencidas
-    @Query("SELECT t FROM Task t WHERE t.user = :user AND t.dueDate < :now AND t.status != 'COMPLETED'")
-    List<Task> findOverdueTasks(@Param("user") User user, @Param("now") LocalDateTime now);
-    
+    @Query("SELECT t FROM Task t " + OVERDUE_WHERE + "ORDER BY t.dueDate")
+    List<Task> findOverdueTasks(@Param("user") User user);
+
     // Estatísticas do usuário
     @Query("SELECT COUNT(t) FROM Task t WHERE t.user = :user")
     long countByUser(@Param("user") User user);
-    
+
     @Query("SELECT COUNT(t) FROM Task t WHERE t.user = :user AND t.status = :status")
     long countByUserAndStatus(@Param("user") User user, @Param("status") Task.Status status);
-    
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.user = :user AND t.dueDate < :now AND t.status != 'COMPLETED'")
-    long countOverdueTasks(@Param("user") User user, @Param("now") LocalDateTime now);
-    
+
+    @Query("SELECT COUNT(t) FROM Task t " + OVERDUE_WHERE)
+    long countOverdueTasks(@Param("user") User user);
+
+    // Vencimento (OverdueSweeper): prazos ainda não marcados até o horizonte, pelo índice parcial
+    // idx_tasks_open_deadline (due_date); a marcação reconfere o predicado linha a linha
+    @Query("SELECT t.id AS id, t.dueDate AS dueDate FROM Task t " +
+           "WHERE t.overdue = false AND t.status <> 'COMPLETED' AND t.dueDate <= :horizon ORDER BY t.dueDate")
+    List<Deadline> findPendingDeadlines(@Param("horizon") LocalDateTime horizon, Pageable limit);
+
+    @Query("SELECT DISTINCT t.user.id FROM Task t " +
+           "WHERE t.overdue = false AND t.status <> 'COMPLETED' AND t.dueDate < :now")
+    List<UUID> findUsersWithMissedDeadlines(@Param("now") LocalDateTime now);
+
+    @Query("SELECT DISTINCT t.user.id FROM Task t WHERE t.id IN :ids " +
+           "AND t.overdue = false AND t.status <> 'COMPLETED' AND t.dueDate < :now")
+    List<UUID> findUsersWithMissedDeadlines(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.overdue = true " +
+           "WHERE t.overdue = false AND t.status <> 'COMPLETED' AND t.dueDate < :now")
+    int markOverdue(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.overdue = true WHERE t.id IN :ids " +
+           "AND t.overdue = false AND t.status <> 'COMPLETED' AND t.dueDate < :now")
+    int markOverdue(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    // Agregados usados para (re)construir os contadores de task_statistics
+    @Query("SELECT t.status AS status, COUNT(t) AS total FROM Task t WHERE t.user.id = :userId GROUP BY t.status")
+    List<StatusCount> countGroupedByStatus(@Param("userId") UUID userId);
+
+    @Query("SELECT t.user.id AS userId, t.status AS status, COUNT(t) AS total FROM Task t " +
+           "WHERE t.user.id IN :userIds GROUP BY t.user.id, t.status")
+    List<UserStatusCount> countGroupedByUserAndStatus(@Param("userIds") Collection<UUID> userIds);
+
     // Tarefas por período
     @Query("SELECT t FROM Task t WHERE t.user = :user AND t.createdAt BETWEEN :start AND :end")
     List<Task> findByUserAndCreatedAtBetween(
-        @Param("user") User user, 
-        @Param("start") LocalDateTime start, 
+        @Param("user") User user,
+        @Param("start") LocalDateTime start,
         @Param("end") LocalDateTime end
     );
+
+    // Exportação: cursor JDBC somente leitura, sem materializar a lista inteira
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t WHERE t.user = :user ORDER BY t.createdAt DESC, t.id DESC")
+    Stream<Task> streamAllByUser(@Param("user") User user);
+
+    // Sondas para ETag (GET condicional): uma agregação em vez da consulta e serialização completas.
+    // Contagem cobre exclusões, max(updated_at) cobre criações/edições, vencidas cobre a passagem do tempo.
+    @Query("SELECT MAX(t.updatedAt) AS lastModified, COUNT(t) AS total, " +
+           "SUM(CASE WHEN t.overdue = true THEN 1 ELSE 0 END) AS overdue " +
+           "FROM Task t WHERE t.user = :user")
+    ListVersion findListVersion(@Param("user") User user);
+
+    @Query("SELECT t.updatedAt AS lastModified, t.category.id AS categoryId, t.overdue AS overdue " +
+           "FROM Task t WHERE t.id = :id AND t.user = :user")
+    Optional<TaskVersion> findVersion(@Param("id") UUID id, @Param("user") User user);
+
+    // Busca por id do dono (findById/EntityManager.find ignoram filtros). O predicado explícito vale
+    // mesmo sem o filtro de dono (jobs, EntityManager reaproveitado); o filtro fica como segunda barreira
+    @Query("SELECT t FROM Task t WHERE t.id = :id AND t.user = :user")
+    Optional<Task> findOwnedById(@Param("id") UUID id, @Param("user") User user);
+
+    // Distingue 404 de 409 depois de um UPDATE condicional sem linhas afetadas
+    boolean existsByIdAndUser(UUID id, User user);
+
+    // Verificação de posse em lote: uma consulta para todas as tarefas de uma operação bulk.
+    // FOR UPDATE em ordem de id: nenhuma outra escrita muda a versão até o commit do lote
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids AND t.user = :user ORDER BY t.id")
+    List<Task> lockAllByIdInAndUser(@Param("ids") Collection<UUID> ids, @Param("user") User user);
+
+    interface StatusCount {
+        Task.Status getStatus();
+        long getTotal();
+    }
+
+    interface UserStatusCount extends StatusCount {
+        UUID getUserId();
+    }
+
+    interface ListVersion {
+        LocalDateTime getLastModified();
+        long getTotal();
+        Long getOverdue();
+    }
+
+    interface Deadline {
+        UUID getId();
+        LocalDateTime getDueDate();
+    }
+
+    interface TaskVersion {
+        LocalDateTime getLastModified();
+        UUID getCategoryId();
+        Boolean getOverdue();
+    }
 }
@@ -0,0 +1,41 @@
+// backend/src/main/java/com/taskflow/api/repository/TaskSearchRepository.java
+package com.taskflow.api.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.UUID;
+
+/**
+ * Busca textual nas tarefas de um usuário, ordenada por relevância. A implementação é
+ * escolhida pelo banco em uso (ver {@code SearchConfig}): índices GIN de tsvector/trigramas
+ * no PostgreSQL e LIKE com ranking simples nos demais (H2 nos testes).
+ */
+public interface TaskSearchRepository {
+    
+    // Marcadores de destaque gerados pelo banco; convertidos para <mark> depois do escape HTML
+    String HIGHLIGHT_START = "\u0002";
+    String HIGHLIGHT_END = "\u0003";
+    
+    Page<TaskSearchHit> search(UUID userId, String query, Pageable pageable);
+    
+    record TaskSearchHit(UUID taskId, double rank, String snippet) {}
+    
+    static String toHtmlSnippet(String snippet) {
+        if (snippet == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(snippet)
+            .replace(HIGHLIGHT_START, "<mark>")
+            .replace(HIGHLIGHT_END, "</mark>");
+    }
+    
+    static String likePattern(String query) {
+        String escaped = query.toLowerCase()
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,91 @@
+// backend/src/main/java/com/taskflow/api/repository/TaskStatisticsRepository.java
+package com.taskflow.api.repository;
+
+import com.taskflow.api.entity.TaskStatistics;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface TaskStatisticsRepository extends JpaRepository<TaskStatistics, UUID> {
+    
+    // Incremento atômico: concorrência resolvida pelo lock de linha do próprio UPDATE
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TaskStatistics s SET " +
+           "s.totalTasks = s.totalTasks + :total, " +
+           "s.pendingTasks = s.pendingTasks + :pending, " +
+           "s.inProgressTasks = s.inProgressTasks + :inProgress, " +
+           "s.completedTasks = s.completedTasks + :completed, " +
+           "s.cancelledTasks = s.cancelledTasks + :cancelled, " +
+           "s.updatedAt = :now " +
+           "WHERE s.userId = :userId")
+    int applyDelta(
+        @Param("userId") UUID userId,
+        @Param("total") long total,
+        @Param("pending") long pending,
+        @Param("inProgress") long inProgress,
+        @Param("completed") long completed,
+        @Param("cancelled") long cancelled,
+        @Param("now") LocalDateTime now
+    );
+    
+    // Cria o registro a partir das tarefas visíveis na transação corrente (flush antes, então
+    // inclui as escritas dela); retorna 0 se o registro já existia. Ver TaskStatisticsService.apply
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO task_statistics (user_id, total_tasks, pending_tasks, in_progress_tasks, " +
+                   "completed_tasks, cancelled_tasks, updated_at) " +
+                   "SELECT :userId, count(*), " +
+                   "count(*) FILTER (WHERE t.status = 'PENDING'), " +
+                   "count(*) FILTER (WHERE t.status = 'IN_PROGRESS'), " +
+                   "count(*) FILTER (WHERE t.status = 'COMPLETED'), " +
+                   "count(*) FILTER (WHERE t.status = 'CANCELLED'), :now " +
+                   "FROM tasks t WHERE t.user_id = :userId " +
+                   "ON CONFLICT (user_id) DO NOTHING",
+           nativeQuery = true)
+    int insertFromTasksOnConflictDoNothing(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
+    
+    // Mesma coisa sem ON CONFLICT (H2 e afins): sem a proteção contra a corrida de dois INSERTs,
+    // que o PostgreSQL resolveria pelo índice da chave primária
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO task_statistics (user_id, total_tasks, pending_tasks, in_progress_tasks, " +
+                   "completed_tasks, cancelled_tasks, updated_at) " +
+                   "SELECT :userId, count(*), " +
+                   "coalesce(sum(CASE WHEN t.status = 'PENDING' THEN 1 ELSE 0 END), 0), " +
+                   "coalesce(sum(CASE WHEN t.status = 'IN_PROGRESS' THEN 1 ELSE 0 END), 0), " +
+                   "coalesce(sum(CASE WHEN t.status = 'COMPLETED' THEN 1 ELSE 0 END), 0), " +
+                   "coalesce(sum(CASE WHEN t.status = 'CANCELLED' THEN 1 ELSE 0 END), 0), :now " +
+                   "FROM tasks t WHERE t.user_id = :userId " +
+                   "HAVING NOT EXISTS (SELECT 1 FROM task_statistics s WHERE s.user_id = :userId)",
+           nativeQuery = true)
+    int insertFromTasksIfAbsent(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TaskStatistics s WHERE s.userId = :userId")
+    Optional<TaskStatistics> findByIdForUpdate(@Param("userId") UUID userId);
+    
+    @Query("SELECT s.userId FROM TaskStatistics s ORDER BY s.userId")
+    Page<UUID> findAllUserIds(Pageable pageable);
+    
+    // ETag de GET /tasks/stats sem carregar os contadores: updated_at avança a cada delta e correção;
+    // vencidas pelo mesmo predicado de TaskRepository.countOverdueTasks (o marcador não passa pelos contadores)
+    @Query("SELECT s.updatedAt AS updatedAt, s.totalTasks AS total, " +
+           "(SELECT COUNT(t) FROM Task t WHERE t.user.id = s.userId AND t.status <> 'COMPLETED' AND t.overdue = true) AS overdue " +
+           "FROM TaskStatistics s WHERE s.userId = :userId")
+    Optional<Version> findVersion(@Param("userId") UUID userId);
+    
+    interface Version {
+        LocalDateTime getUpdatedAt();
+        long getTotal();
+        long getOverdue();
+    }
+}
@@ -0,0 +1,99 @@
+// backend/src/main/java/com/taskflow/api/repository/TaskStatusRepository.java
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dto.task.TaskRow;
+import com.taskflow.api.entity.Task;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Troca de status sem carregar a entidade: um UPDATE condicionado a id, dono e (opcionalmente)
+ * versão, que aplica as mesmas regras de {@code Task.setStatus} (completed_at, marcador de
+ * vencimento, updated_at e versão) e devolve a linha nova junto com o status anterior.
+ * A implementação é escolhida pelo banco em uso (ver {@code TaskStatusConfig}).
+ */
+public interface TaskStatusRepository {
+    
+    String ROW_COLUMNS =
+        "t.id, t.title, t.description, t.category_id, t.priority, t.status, t.due_date, " +
+        "t.completed_at, t.created_at, t.updated_at, t.overdue, t.version";
+    
+    // Mesmas regras de Task.setStatus/refreshOverdue, em SQL
+    String SET_STATUS_COLUMNS =
+        "status = :status, " +
+        "completed_at = CASE WHEN :completed THEN COALESCE(t.completed_at, :now) ELSE NULL END, " +
+        "overdue = (t.due_date IS NOT NULL AND t.due_date < :now AND NOT :completed), " +
+        "updated_at = :now, ";
+    
+    String SET_STATUS = SET_STATUS_COLUMNS + "version = t.version + 1 ";
+    
+    /**
+     * Vazio quando nenhuma linha casou: tarefa inexistente, de outro usuário ou, com
+     * {@code expectedVersion}, já alterada por outra requisição.
+     */
+    Optional<StatusChange> updateStatus(UUID id, UUID userId, Long expectedVersion, Task.Status status, LocalDateTime now);
+    
+    record StatusChange(TaskRow task, Task.Status previousStatus) {}
+    
+    /**
+     * Grava em lote trocas de status já confirmadas ao cliente (StatusWriteBehind), cada uma
+     * condicionada à versão em que foi calculada e gravando a versão que o cliente já recebeu
+     * ({@code newVersion}). Por item: {@code true} se a linha foi alterada.
+     */
+    boolean[] updateStatuses(List<BufferedStatus> updates);
+    
+    record BufferedStatus(UUID id, UUID userId, long expectedVersion, long newVersion, Task.Status status,
+                          LocalDateTime at) {}
+    
+    // Comando comum às implementações: só SQL portável, sem RETURNING
+    static boolean[] batchUpdate(NamedParameterJdbcTemplate jdbcTemplate, List<BufferedStatus> updates) {
+        MapSqlParameterSource[] batch = new MapSqlParameterSource[updates.size()];
+        for (int i = 0; i < batch.length; i++) {
+            BufferedStatus update = updates.get(i);
+            batch[i] = new MapSqlParameterSource()
+                .addValue("id", update.id())
+                .addValue("userId", update.userId())
+                .addValue("version", update.expectedVersion())
+                .addValue("newVersion", update.newVersion())
+                .addValue("status", update.status().name())
+                .addValue("completed", update.status() == Task.Status.COMPLETED)
+                .addValue("now", update.at());
+        }
+        int[] counts = jdbcTemplate.batchUpdate(
+            "UPDATE tasks t SET " + SET_STATUS_COLUMNS + "version = :newVersion " +
+            "WHERE t.id = :id AND t.user_id = :userId AND t.version = :version",
+            batch);
+        boolean[] updated = new boolean[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            // SUCCESS_NO_INFO: o driver não informou a contagem; não há como detectar conflito
+            updated[i] = counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO;
+        }
+        return updated;
+    }
+    
+    static TaskRow mapRow(ResultSet rs) throws SQLException {
+        return new TaskRow(
+            rs.getObject("id", UUID.class),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getObject("category_id", UUID.class),
+            Task.Priority.valueOf(rs.getString("priority")),
+            Task.Status.valueOf(rs.getString("status")),
+            rs.getObject("due_date", LocalDateTime.class),
+            rs.getObject("completed_at", LocalDateTime.class),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class),
+            rs.getBoolean("overdue"),
+            rs.getLong("version")
+        );
+    }
+}
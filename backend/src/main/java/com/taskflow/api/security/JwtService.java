@@ -1,80 +1,172 @@
 // backend/src/main/java/com/taskflow/api/security/JwtService.java
 package com.taskflow.api.security;
 
+import com.taskflow.api.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
-    
+
+    // Claims do principal: permitem autenticar a requisição sem consultar o banco
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_ENABLED = "enabled";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     @Value("${jwt.secret}")
     private String secret;
-    
+
     @Value("${jwt.expiration}")
     private Long expiration;
-    
+
+    @Autowired(required = false)
+    private VerifiedTokenCache tokenCache;
+
+    // Chave e parser são imutáveis e thread-safe: criados uma vez, na primeira utilização
+    private volatile SecretKey signInKey;
+    private volatile JwtParser parser;
+
+    // Verificações completas (HMAC), por resultado; acertos do cache não passam por aqui
+    private final LongAdder verified = new LongAdder();
+    private final LongAdder rejectedExpired = new LongAdder();
+    private final LongAdder rejectedSignature = new LongAdder();
+    private final LongAdder rejectedMalformed = new LongAdder();
+
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
-    
+
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(verify(token).claims());
+    }
+
+    /**
+     * Verifica assinatura e expiração do token uma única vez e devolve as claims imutáveis.
+     * Tokens repetidos são servidos pelo {@link VerifiedTokenCache} sem novo HMAC.
+     *
+     * @throws JwtException se o token for malformado, tiver assinatura inválida ou estiver expirado
+     */
+    public VerifiedToken verify(String token) {
+        if (tokenCache == null) {
+            return parse(token);
+        }
+        return tokenCache.get(token, this::parse);
     }
-    
+
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof User user && user.getId() != null) {
+            claims.put(CLAIM_USER_ID, user.getId().toString());
+            claims.put(CLAIM_ROLE, user.getRole().name());
+            claims.put(CLAIM_ENABLED, user.isEnabled());
+            claims.put(CLAIM_TOKEN_VERSION, user.getTokenVersion() != null ? user.getTokenVersion() : 0);
+        }
+        return generateToken(claims, userDetails);
     }
-    
+
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
         return buildToken(extraClaims, userDetails, expiration);
     }
-    
+
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
+        long now = System.currentTimeMillis();
         return Jwts
                 .builder()
                 .claims(extraClaims)
                 .subject(userDetails.getUsername())
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration))
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expiration))
                 .signWith(getSignInKey())
                 .compact();
     }
-    
+
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(verify(token), userDetails);
     }
-    
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        if (userDetails instanceof User user && token.tokenVersion() != null
+                && user.getTokenVersion() != null && token.tokenVersion() < user.getTokenVersion()) {
+            return false;
+        }
+        return token.subject().equals(userDetails.getUsername()) && !token.isExpired(Instant.now());
     }
-    
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+
+    /**
+     * Monta o principal da requisição a partir das claims do token. O objeto contém apenas
+     * id, email, papel, status e versão do token: o suficiente para o {@code @AuthenticationPrincipal}
+     * usado pelos controllers e para as consultas por usuário.
+     */
+    public User toPrincipal(VerifiedToken token) {
+        User user = new User();
+        user.setId(token.userId());
+        user.setEmail(token.subject());
+        user.setRole(token.role());
+        user.setEmailVerified(token.enabled());
+        user.setTokenVersion(token.tokenVersion());
+        return user;
     }
-    
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+
+    public VerifiedTokenCache.CacheStats getTokenCacheStats() {
+        return tokenCache != null ? tokenCache.stats() : null;
+    }
+
+    public VerificationStats getVerificationStats() {
+        return new VerificationStats(verified.sum(), rejectedExpired.sum(), rejectedSignature.sum(), rejectedMalformed.sum());
     }
-    
+
+    private VerifiedToken parse(String token) {
+        try {
+            VerifiedToken result = VerifiedToken.of(getParser().parseSignedClaims(token).getPayload());
+            verified.increment();
+            return result;
+        } catch (ExpiredJwtException e) {
+            rejectedExpired.increment();
+            throw e;
+        } catch (SignatureException e) {
+            rejectedSignature.increment();
+            throw e;
+        } catch (JwtException | IllegalArgumentException e) {
+            rejectedMalformed.increment();
+            throw e;
+        }
+    }
+
+    private JwtParser getParser() {
+        JwtParser result = parser;
+        if (result == null) {
+            result = Jwts.parser().verifyWith(getSignInKey()).build();
+            parser = result;
+        }
+        return result;
+    }
+
     private SecretKey getSignInKey() {
-        byte[] keyBytes = secret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+        SecretKey result = signInKey;
+        if (result == null) {
+            result = Keys.hmacShaKeyFor(secret.getBytes());
+            signInKey = result;
+        }
+        return result;
     }
+
+    public record VerificationStats(long verified, long expired, long invalidSignature, long malformed) {}
 }
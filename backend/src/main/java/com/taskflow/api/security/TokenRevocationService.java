@@ -0,0 +1,74 @@
+// backend/src/main/java/com/taskflow/api/security/TokenRevocationService.java
+package com.taskflow.api.security;
+
+import com.taskflow.api.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Mantém em memória a versão atual de token apenas dos usuários que já revogaram seus
+ * tokens (versão &gt; 0). Um token cuja claim de versão é menor que a registrada aqui
+ * é recusado pelo filtro sem acesso ao banco. O conjunto é recarregado periodicamente
+ * para propagar revogações feitas por outras instâncias da API.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private volatile Map<UUID, Integer> bumpedVersions = Map.of();
+
+    public boolean isRevoked(VerifiedToken token) {
+        Integer current = bumpedVersions.get(token.userId());
+        return current != null && token.tokenVersion() < current;
+    }
+
+    /** Invalida todos os tokens já emitidos para o usuário e devolve a nova versão. */
+    @Transactional
+    public int revokeAll(UUID userId) {
+        userRepository.incrementTokenVersion(userId);
+        int version = userRepository.findTokenVersionById(userId).orElse(0);
+
+        synchronized (this) {
+            Map<UUID, Integer> updated = new HashMap<>(bumpedVersions);
+            updated.merge(userId, version, Math::max);
+            bumpedVersions = Map.copyOf(updated);
+        }
+        return version;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void onStartup() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval:30000}",
+               initialDelayString = "${jwt.revocation.refresh-interval:30000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        Map<UUID, Integer> loaded = new HashMap<>();
+        for (UserRepository.TokenVersionView view : userRepository.findBumpedTokenVersions()) {
+            loaded.put(view.getId(), view.getTokenVersion());
+        }
+
+        // Versões só crescem: mantém o maior valor entre o banco e revogações locais recentes
+        synchronized (this) {
+            bumpedVersions.forEach((userId, version) -> loaded.merge(userId, version, Math::max));
+            bumpedVersions = Map.copyOf(loaded);
+        }
+        log.debug("Versões de token revogadas recarregadas: {} usuário(s)", loaded.size());
+    }
+}
@@ -0,0 +1,49 @@
+// backend/src/main/java/com/taskflow/api/security/VerifiedToken.java
+package com.taskflow.api.security;
+
+import com.taskflow.api.entity.User;
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Resultado imutável de um JWT cuja assinatura já foi verificada. Criado uma única
+ * vez por token pelo {@link JwtService} e reutilizado pelo filtro e pelo cache.
+ * Tokens emitidos antes das claims de principal não têm {@code userId}.
+ */
+public record VerifiedToken(
+    String subject,
+    Instant issuedAt,
+    Instant expiresAt,
+    UUID userId,
+    User.Role role,
+    boolean enabled,
+    Integer tokenVersion,
+    Claims claims
+) {
+    static VerifiedToken of(Claims claims) {
+        String userId = claims.get(JwtService.CLAIM_USER_ID, String.class);
+        String role = claims.get(JwtService.CLAIM_ROLE, String.class);
+        Boolean enabled = claims.get(JwtService.CLAIM_ENABLED, Boolean.class);
+        return new VerifiedToken(
+            claims.getSubject(),
+            claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+            claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+            userId != null ? UUID.fromString(userId) : null,
+            role != null ? User.Role.valueOf(role) : null,
+            Boolean.TRUE.equals(enabled),
+            claims.get(JwtService.CLAIM_TOKEN_VERSION, Integer.class),
+            claims
+        );
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+
+    /** Indica se o token carrega tudo o que é preciso para montar o principal sem consultar o banco. */
+    public boolean hasPrincipalClaims() {
+        return userId != null && role != null && tokenVersion != null;
+    }
+}
@@ -0,0 +1,114 @@
+// backend/src/main/java/com/taskflow/api/security/VerifiedTokenCache.java
+package com.taskflow.api.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Cache limitado de tokens já verificados, indexado pelo SHA-256 do token (o token em si
+ * nunca é guardado). Entradas vencidas são descartadas na leitura e na limpeza feita
+ * quando o limite é atingido, então um token expirado nunca é servido do cache.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    });
+
+    private final int maxSize;
+    private final Map<ByteBuffer, VerifiedToken> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Retorna o token verificado do cache ou executa {@code verifier} e guarda o resultado.
+     * Exceções do verificador (assinatura inválida, token expirado) não são cacheadas.
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (maxSize <= 0) {
+            misses.increment();
+            return verifier.apply(token);
+        }
+
+        ByteBuffer key = digest(token);
+        Instant now = Instant.now();
+        VerifiedToken cached = entries.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                hits.increment();
+                return cached;
+            }
+            entries.remove(key, cached);
+        }
+
+        misses.increment();
+        VerifiedToken verified = verifier.apply(token);
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+        entries.put(key, verified);
+        return verified;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), maxSize);
+    }
+
+    // Primeiro remove os vencidos; se ainda estiver cheio, descarta ~10% em ordem arbitrária
+    private void evict(Instant now) {
+        entries.entrySet().removeIf(entry -> {
+            boolean expired = entry.getValue().isExpired(now);
+            if (expired) evictions.increment();
+            return expired;
+        });
+        if (entries.size() < maxSize) {
+            return;
+        }
+
+        int toRemove = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<ByteBuffer> it = entries.keySet().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private static ByteBuffer digest(String token) {
+        MessageDigest md = SHA_256.get();
+        return ByteBuffer.wrap(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    public record CacheStats(long hits, long misses, long evictions, int size, int maxSize) {
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
@@ -9,13 +9,17 @@ import com.taskflow.api.entity.User;
 import com.taskflow.api.exception.BadRequestException;
 import com.taskflow.api.repository.UserRepository;
 import com.taskflow.api.security.JwtService;
+import com.taskflow.api.security.TokenRevocationService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed(value = "taskflow.service", histogram = true)
 public class AuthService {
     
     @Autowired
@@ -30,6 +34,12 @@ public class AuthService {
     @Autowired
     private AuthenticationManager authenticationManager;
     
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+    
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+    
     // REMOVER ESTE CAMPO NÃO UTILIZADO:
     // @Autowired
     // private UserDetailsService userDetailsService;
@@ -46,21 +56,24 @@ public class AuthService {
         user.setEmailVerified(true); // Para simplificar, vamos considerar o email como verificado
         
         User savedUser = userRepository.save(user);
+        taskStatisticsService.initialize(savedUser.getId());
         String jwtToken = jwtService.generateToken(savedUser);
         
         return new AuthResponse(jwtToken, UserResponse.fromEntity(savedUser));
     }
     
     public AuthResponse authenticate(LoginRequest request) {
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
             new UsernamePasswordAuthenticationToken(
                 request.email(),
                 request.password()
             )
         );
         
-        User user = userRepository.findByEmail(request.email())
-            .orElseThrow(() -> new BadRequestException("Credenciais inválidas"));
+        // O principal autenticado já é o usuário carregado pelo CustomUserDetailsService
+        if (!(authentication.getPrincipal() instanceof User user)) {
+            throw new BadRequestException("Credenciais inválidas");
+        }
         
         String jwtToken = jwtService.generateToken(user);
         
@@ -79,4 +92,11 @@ public class AuthService {
             throw new BadRequestException("Token inválido");
         }
     }
+    
+    public void logoutAll(User user) {
+        if (user == null) {
+            throw new BadRequestException("Token inválido");
+        }
+        tokenRevocationService.revokeAll(user.getId());
+    }
 }
@@ -0,0 +1,150 @@
+// backend/src/main/java/com/taskflow/api/service/CategoryCache.java
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.category.CategoryResponse;
+import com.taskflow.api.entity.Category;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.repository.CategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Cache em processo da tabela categories (pequena, global e raramente alterada). É carregado
+ * inteiro na subida e recarregado periodicamente para refletir mudanças feitas por outras
+ * instâncias; ids ausentes são lidos do banco sob demanda (read-through). Alterações feitas
+ * por esta instância removem a entrada via {@link CategoryCacheInvalidator}.
+ */
+@Service
+public class CategoryCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryCache.class);
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private final Map<UUID, CategoryResponse> categories = new ConcurrentHashMap<>();
+
+    // Hash do conteúdo em cache, recalculado só depois de alguma mudança (versão comparada
+    // para que um cálculo concorrente com uma alteração não fique valendo)
+    private final AtomicLong changes = new AtomicLong();
+    private volatile Fingerprint fingerprint;
+
+    /**
+     * Categoria pelo id, ou {@code null} se não existir. Chamado por linha nas listagens, então o
+     * acerto não passa por transação; só a falta abre uma (a do próprio {@code findById}, ou
+     * participa da do chamador).
+     */
+    public CategoryResponse get(UUID id) {
+        if (id == null) {
+            return null;
+        }
+        CategoryResponse cached = categories.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        // Inexistentes não são guardados: um id inválido não ocupa o cache
+        return categoryRepository.findById(id)
+            .map(CategoryResponse::fromEntity)
+            .map(category -> {
+                categories.put(id, category);
+                changes.incrementAndGet();
+                return category;
+            })
+            .orElse(null);
+    }
+
+    public boolean exists(UUID id) {
+        return get(id) != null;
+    }
+
+    public int size() {
+        return categories.size();
+    }
+
+    /**
+     * Identifica o conteúdo atual do cache: entra nos ETags das listagens, já que o
+     * {@code CategoryResponse} de cada tarefa faz parte da representação.
+     */
+    public String fingerprint() {
+        long version = changes.get();
+        Fingerprint current = fingerprint;
+        if (current != null && current.version() == version) {
+            return current.value();
+        }
+        StringBuilder content = new StringBuilder();
+        categories.values().stream()
+            .sorted(Comparator.comparing(CategoryResponse::id))
+            .forEach(content::append);
+        String value = DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+        fingerprint = new Fingerprint(version, value);
+        return value;
+    }
+
+    /**
+     * Categoria da tarefa sem inicializar o proxy LAZY: o id de um proxy do Hibernate
+     * vem da chave estrangeira, sem consulta.
+     */
+    public CategoryResponse forTask(Task task) {
+        Category category = task.getCategory();
+        return category != null ? get(category.getId()) : null;
+    }
+
+    /**
+     * Remove a entrada agora e de novo ao fim da transação corrente, para que uma leitura
+     * concorrente não deixe em cache o valor anterior ao commit.
+     */
+    public void evict(UUID id) {
+        if (id == null) {
+            return;
+        }
+        categories.remove(id);
+        changes.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    categories.remove(id);
+                    changes.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void onStartup() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.categories.cache.refresh-interval:300000}",
+               initialDelayString = "${tasks.categories.cache.refresh-interval:300000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        Map<UUID, CategoryResponse> loaded = categoryRepository.findAll().stream()
+            .map(CategoryResponse::fromEntity)
+            .collect(Collectors.toMap(CategoryResponse::id, Function.identity()));
+        categories.putAll(loaded);
+        categories.keySet().retainAll(loaded.keySet());
+        changes.incrementAndGet();
+        log.debug("Cache de categorias recarregado: {} categoria(s)", loaded.size());
+    }
+
+    private record Fingerprint(long version, String value) {}
+}
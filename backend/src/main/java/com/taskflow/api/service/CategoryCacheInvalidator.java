@@ -0,0 +1,30 @@
+// backend/src/main/java/com/taskflow/api/service/CategoryCacheInvalidator.java
+package com.taskflow.api.service;
+
+import com.taskflow.api.entity.Category;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener JPA de {@link Category}, instanciado pelo Spring (SpringBeanContainer do Hibernate):
+ * qualquer escrita de categoria por esta instância invalida a entrada no {@link CategoryCache}.
+ */
+@Component
+public class CategoryCacheInvalidator {
+
+    // Lazy: o listener é criado junto com o EntityManagerFactory, antes dos repositórios
+    @Lazy
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Category category) {
+        categoryCache.evict(category.getId());
+    }
+}
@@ -0,0 +1,169 @@
+// backend/src/main/java/com/taskflow/api/service/OverdueSweeper.java
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.task.TaskEvent;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mantém o marcador persistido {@code tasks.overdue}. Os prazos das tarefas em aberto que vencem
+ * dentro do horizonte ficam em uma fila de prioridade por data; a cada varredura só o topo da fila
+ * é examinado e as tarefas cujo prazo passou são marcadas em um UPDATE por lote, que reconfere
+ * status e prazo no banco (entradas antigas de tarefas concluídas ou remarcadas não têm efeito).
+ * Os usuários afetados recebem um evento BULK para recarregar as listagens. Os índices parciais
+ * usados aqui e nas listagens de vencidas são criados pelas migrações (V5__task_query_indexes).
+ */
+@Service
+public class OverdueSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(OverdueSweeper.class);
+    private static final int MARK_BATCH_SIZE = 500;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskEventService taskEventService;
+
+    @Value("${tasks.overdue.horizon:3600000}")
+    private long horizonMillis;
+
+    @Value("${tasks.overdue.queue-capacity:100000}")
+    private int queueCapacity;
+
+    private final TransactionTemplate transaction;
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>(Comparator.comparing(Deadline::dueDate));
+    private final AtomicLong marked = new AtomicLong();
+    // Até onde a fila está completa; prazos posteriores entram na próxima recarga
+    private LocalDateTime loadedUntil = LocalDateTime.MIN;
+
+    public OverdueSweeper(PlatformTransactionManager transactionManager) {
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /** Chamado após inserir ou alterar uma tarefa: prazos dentro do horizonte já carregado entram na fila. */
+    public void track(Task task) {
+        if (task.isAwaitingDeadline()) {
+            track(task.getId(), task.getDueDate());
+        }
+    }
+
+    /** Variante para alterações feitas direto em SQL, sem entidade (ver TaskStatusRepository). */
+    public void track(UUID taskId, LocalDateTime dueDate) {
+        synchronized (deadlines) {
+            if (!dueDate.isAfter(loadedUntil)) {
+                deadlines.add(new Deadline(dueDate, taskId));
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        LocalDateTime now = LocalDateTime.now();
+        // Prazos que venceram com a aplicação parada (ou antes do marcador existir)
+        int caughtUp = transaction.execute(status -> {
+            List<UUID> users = taskRepository.findUsersWithMissedDeadlines(now);
+            int updated = taskRepository.markOverdue(now);
+            users.forEach(userId -> taskEventService.publish(userId, TaskEvent.bulk()));
+            return updated;
+        });
+        if (caughtUp > 0) {
+            marked.addAndGet(caughtUp);
+            log.info("{} tarefa(s) marcada(s) como vencidas na inicialização", caughtUp);
+        }
+        reload();
+    }
+
+    /** Recarrega a fila com os prazos até o horizonte, limitada a {@code queue-capacity} entradas. */
+    @Scheduled(fixedDelayString = "${tasks.overdue.reload-interval:300000}",
+               initialDelayString = "${tasks.overdue.reload-interval:300000}")
+    public void reload() {
+        LocalDateTime horizon = LocalDateTime.now().plusNanos(horizonMillis * 1_000_000);
+        List<TaskRepository.Deadline> pending = transaction.execute(status ->
+            taskRepository.findPendingDeadlines(horizon, PageRequest.of(0, queueCapacity)));
+
+        // Fila cheia: ela só é completa até o último prazo carregado
+        LocalDateTime until = pending.size() < queueCapacity
+            ? horizon
+            : pending.get(pending.size() - 1).getDueDate();
+        List<Deadline> reloaded = new ArrayList<>(pending.size());
+        Set<UUID> loadedIds = new HashSet<>();
+        for (TaskRepository.Deadline deadline : pending) {
+            reloaded.add(new Deadline(deadline.getDueDate(), deadline.getId()));
+            loadedIds.add(deadline.getId());
+        }
+        synchronized (deadlines) {
+            // Prazos registrados por track() durante a consulta podem não estar no resultado
+            for (Deadline current : deadlines) {
+                if (!loadedIds.contains(current.taskId()) && !current.dueDate().isAfter(until)) {
+                    reloaded.add(current);
+                }
+            }
+            deadlines.clear();
+            deadlines.addAll(reloaded);
+            loadedUntil = until;
+        }
+        log.debug("Fila de prazos recarregada: {} tarefa(s) até {}", pending.size(), until);
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.overdue.sweep-interval:1000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<UUID> due = new LinkedHashSet<>();
+        synchronized (deadlines) {
+            while (!deadlines.isEmpty() && deadlines.peek().dueDate().isBefore(now)) {
+                due.add(deadlines.poll().taskId());
+            }
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        List<UUID> ids = new ArrayList<>(due);
+        for (int from = 0; from < ids.size(); from += MARK_BATCH_SIZE) {
+            List<UUID> batch = ids.subList(from, Math.min(from + MARK_BATCH_SIZE, ids.size()));
+            int updated = transaction.execute(status -> {
+                List<UUID> users = taskRepository.findUsersWithMissedDeadlines(batch, now);
+                int count = taskRepository.markOverdue(batch, now);
+                // Entregue após o commit (TaskEventService escuta em AFTER_COMMIT)
+                users.forEach(userId -> taskEventService.publish(userId, TaskEvent.bulk()));
+                return count;
+            });
+            marked.addAndGet(updated);
+        }
+    }
+
+    public int getQueueSize() {
+        synchronized (deadlines) {
+            return deadlines.size();
+        }
+    }
+
+    public long getMarkedCount() {
+        return marked.get();
+    }
+
+    private record Deadline(LocalDateTime dueDate, UUID taskId) {}
+}
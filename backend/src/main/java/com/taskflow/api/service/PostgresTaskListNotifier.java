@@ -0,0 +1,197 @@
+// backend/src/main/java/com/taskflow/api/service/PostgresTaskListNotifier.java
+package com.taskflow.api.service;
+
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Invalidação do {@link TaskListCache} entre instâncias via LISTEN/NOTIFY do PostgreSQL, sem broker.
+ * Uma thread mantém uma conexão própria (fora do pool) em LISTEN no canal {@value #CHANNEL}; a cada
+ * {@code pollInterval} ms ela envia em um NOTIFY os usuários invalidados localmente desde a última
+ * volta e repassa os recebidos das outras instâncias como {@link TaskListCache.RemoteInvalidation}.
+ *
+ * <p>Payload: {@code instância|epochMillis|uuid,uuid,...}, até {@value #MAX_IDS_PER_NOTIFY} usuários
+ * por NOTIFY (limite de 8000 bytes do PostgreSQL). Avisos emitidos pelas outras instâncias enquanto
+ * a conexão está fora do ar se perdem, por isso a cada (re)conexão o cache local inteiro é descartado;
+ * os que esta instância não conseguiu enviar seguem na próxima conexão.
+ */
+public class PostgresTaskListNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresTaskListNotifier.class);
+
+    static final String CHANNEL = "taskflow_task_lists";
+    private static final int MAX_IDS_PER_NOTIFY = 200;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int pollIntervalMillis;
+    private final long reconnectDelayMillis;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Set<UUID> outgoing = ConcurrentHashMap.newKeySet();
+    private final Thread listener;
+    private volatile boolean running = true;
+    private volatile boolean connected;
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong reconnects = new AtomicLong();
+
+    public PostgresTaskListNotifier(String url, String username, String password, int pollIntervalMillis,
+                                    long reconnectDelayMillis, ApplicationEventPublisher eventPublisher) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+        this.eventPublisher = eventPublisher;
+        this.listener = new Thread(this::run, "task-list-notifier");
+        this.listener.setDaemon(true);
+        this.listener.start();
+    }
+
+    /** Agenda o aviso às outras instâncias; repetições até o próximo envio viram um só. */
+    public void send(UUID userId) {
+        outgoing.add(userId);
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    public long getSentCount() {
+        return sent.get();
+    }
+
+    public long getReceivedCount() {
+        return received.get();
+    }
+
+    public long getReconnectCount() {
+        return reconnects.get();
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+        try {
+            listener.join(pollIntervalMillis * 2L + 1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                connected = true;
+                // Avisos de outras instâncias podem ter se perdido enquanto não havia LISTEN
+                eventPublisher.publishEvent(TaskListCache.RemoteInvalidation.everything());
+                try (PreparedStatement notify = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                    while (running) {
+                        flushOutgoing(notify);
+                        PGNotification[] notifications = pgConnection.getNotifications(pollIntervalMillis);
+                        if (notifications != null) {
+                            for (PGNotification notification : notifications) {
+                                receive(notification.getParameter());
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (running) {
+                    log.warn("Conexão de LISTEN das listagens caiu; nova tentativa em {} ms", reconnectDelayMillis, e);
+                }
+            } finally {
+                connected = false;
+            }
+            if (running) {
+                reconnects.incrementAndGet();
+                sleep(reconnectDelayMillis);
+            }
+        }
+    }
+
+    private void flushOutgoing(PreparedStatement notify) throws SQLException {
+        if (outgoing.isEmpty()) {
+            return;
+        }
+        List<UUID> batch = new ArrayList<>(Math.min(outgoing.size(), MAX_IDS_PER_NOTIFY));
+        Iterator<UUID> iterator = outgoing.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+            if (batch.size() == MAX_IDS_PER_NOTIFY || !iterator.hasNext()) {
+                StringBuilder payload = new StringBuilder(instanceId).append('|')
+                    .append(System.currentTimeMillis()).append('|');
+                for (int i = 0; i < batch.size(); i++) {
+                    if (i > 0) {
+                        payload.append(',');
+                    }
+                    payload.append(batch.get(i));
+                }
+                notify.setString(1, CHANNEL);
+                notify.setString(2, payload.toString());
+                try {
+                    notify.execute();
+                } catch (SQLException e) {
+                    // Reenviado na próxima conexão
+                    outgoing.addAll(batch);
+                    throw e;
+                }
+                sent.addAndGet(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        // A própria instância também recebe os NOTIFY que envia
+        if (parts.length != 3 || parts[0].equals(instanceId)) {
+            return;
+        }
+        try {
+            long sentAt = Long.parseLong(parts[1]);
+            List<UUID> userIds = new ArrayList<>();
+            for (String id : parts[2].split(",")) {
+                userIds.add(UUID.fromString(id));
+            }
+            received.addAndGet(userIds.size());
+            eventPublisher.publishEvent(new TaskListCache.RemoteInvalidation(userIds, sentAt));
+        } catch (IllegalArgumentException e) {
+            log.warn("Aviso de invalidação ignorado (payload inválido): {}", payload);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
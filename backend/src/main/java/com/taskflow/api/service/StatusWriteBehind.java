@@ -0,0 +1,400 @@
+// backend/src/main/java/com/taskflow/api/service/StatusWriteBehind.java
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.task.TaskEvent;
+import com.taskflow.api.dto.task.TaskResponse;
+import com.taskflow.api.dto.task.TaskRow;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.exception.ConflictException;
+import com.taskflow.api.exception.NotFoundException;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.TaskStatusRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Write-behind das trocas de status (opt-in, {@code tasks.status.write-behind.enabled}). Arrastar
+ * um cartão no quadro dispara vários PATCH /tasks/{id}/status seguidos para a mesma tarefa; aqui
+ * cada troca é confirmada na hora em um buffer por tarefa que guarda só o estado mais recente, e
+ * a cada {@code flush-interval} ms o buffer vira um UPDATE em lote condicionado à versão.
+ *
+ * <ul>
+ *   <li>A resposta já traz o estado final (status, conclusão e vencimento) e uma versão nova a cada
+ *       troca, que a gravação escreve na linha; as leituras desta instância sobrepõem o pendente
+ *       ({@link #overlay}).</li>
+ *   <li>Contadores de estatísticas e fila de prazos são atualizados na gravação, uma vez por rajada.</li>
+ *   <li>Edições, exclusões e operações em lote gravam antes o pendente das tarefas envolvidas
+ *       ({@link #flushTasks}), dentro da transação delas; se ela for desfeita, as trocas voltam ao
+ *       buffer. Se ainda assim a versão não bater na gravação (alteração por outra instância), a
+ *       troca é descartada e o usuário recebe um BULK para recarregar.</li>
+ *   <li>A gravação periódica roda em uma thread própria, fora do agendador compartilhado do Spring.</li>
+ *   <li>No desligamento tudo é gravado. Uma queda abrupta perde no máximo um intervalo de trocas.</li>
+ * </ul>
+ */
+@Service
+public class StatusWriteBehind {
+
+    private static final Logger log = LoggerFactory.getLogger(StatusWriteBehind.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+
+    @Autowired
+    private TaskEventService taskEventService;
+
+    @Autowired
+    private OverdueSweeper overdueSweeper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${tasks.status.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${tasks.status.write-behind.max-pending:10000}")
+    private int maxPending;
+
+    @Value("${tasks.status.write-behind.flush-interval:20}")
+    private long flushInterval;
+
+    private final TransactionTemplate transaction;
+    // Confirmadas e ainda não gravadas; "flushing" são as que estão sendo gravadas agora
+    private final Map<UUID, Pending> pending = new ConcurrentHashMap<>();
+    private final Map<UUID, Pending> flushing = new ConcurrentHashMap<>();
+    // Por usuário: entradas em pending + flushing e a geração da última mudança (lida sem lock)
+    private final Map<UUID, UserPending> users = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Object bufferLock = new Object();
+    private final Object flushLock = new Object();
+
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong flushed = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private ScheduledExecutorService flusher;
+
+    public StatusWriteBehind(PlatformTransactionManager transactionManager) {
+        // Participa da transação do chamador, se houver (flushTasks); a gravação periódica abre a sua
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "status-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Confirma a troca no buffer e devolve a linha como ficará depois da gravação, ou
+     * {@code null} se o buffer está cheio (o chamador grava de forma síncrona).
+     */
+    public TaskRow submit(UUID id, User user, Task.Status status, Long expectedVersion) {
+        TaskRow buffered = buffer(id, user.getId(), status, expectedVersion, null);
+        if (buffered != null) {
+            return buffered;
+        }
+        if (pending.size() >= maxPending) {
+            return null;
+        }
+        TaskRow current = taskRepository.findRowByIdAndUser(id, user)
+            .orElseThrow(() -> new NotFoundException("Tarefa não encontrada"));
+        return buffer(id, user.getId(), status, expectedVersion, current);
+    }
+
+    // Sem "stored" só resolve a partir do buffer (null se a tarefa não estiver nele)
+    private TaskRow buffer(UUID id, UUID userId, Task.Status status, Long expectedVersion, TaskRow stored) {
+        synchronized (bufferLock) {
+            Pending previous = pending.get(id);
+            Pending inFlight = flushing.get(id);
+            UUID owner;
+            TaskRow base;
+            TaskRow visible;
+            if (previous != null) {
+                owner = previous.userId();
+                base = previous.base();
+                visible = previous.row();
+            } else if (inFlight != null) {
+                // Parte do estado que a gravação em curso deixará no banco
+                owner = inFlight.userId();
+                base = inFlight.row();
+                visible = base;
+            } else if (stored != null) {
+                owner = userId;
+                base = stored;
+                visible = stored;
+            } else {
+                return null;
+            }
+            if (!owner.equals(userId)) {
+                throw new NotFoundException("Tarefa não encontrada");
+            }
+            if (expectedVersion != null && expectedVersion != visible.version()) {
+                throw new ConflictException("Tarefa alterada por outra requisição; recarregue e tente novamente");
+            }
+            if (previous != null) {
+                coalesced.incrementAndGet();
+            }
+            // Estado calculado sobre a linha gravada; a versão avança a cada troca (ETags distintos)
+            Pending next = new Pending(userId, base, apply(base, status, LocalDateTime.now(), visible.version() + 1));
+            pending.put(id, next);
+            track(userId, previous == null ? 1 : 0);
+            return next.row();
+        }
+    }
+
+    /** Resposta com o status pendente desta instância, se houver (leia o que acabou de escrever). */
+    public TaskResponse overlay(TaskResponse response) {
+        if (pending.isEmpty() && flushing.isEmpty()) {
+            return response;
+        }
+        Pending entry = pending.get(response.id());
+        if (entry == null) {
+            entry = flushing.get(response.id());
+        }
+        // Resposta já na versão gravada ou além (edição na mesma transação da gravação): nada a sobrepor
+        if (entry == null || response.version() >= entry.row().version()) {
+            return response;
+        }
+        TaskRow row = entry.row();
+        return new TaskResponse(response.id(), response.title(), response.description(), response.category(),
+            response.priority(), row.status(), response.dueDate(), row.completedAt(), response.createdAt(),
+            row.updatedAt(), row.overdue(), row.version());
+    }
+
+    /**
+     * Parte do ETag das leituras do usuário: muda a cada troca confirmada e ainda não gravada
+     * (a marca d'água do banco só avança na gravação). A geração é global e só cresce, então o
+     * valor nunca se repete enquanto houver pendências. Vazia quando não há pendências.
+     */
+    public String fingerprint(UUID userId) {
+        UserPending state = users.get(userId);
+        return state == null ? "" : state.entries() + ":" + state.generation();
+    }
+
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            flush(id -> true);
+        } catch (RuntimeException e) {
+            // Uma falha não pode encerrar o agendamento
+            log.error("Falha na gravação periódica do write-behind", e);
+        }
+    }
+
+    /** Grava o pendente das tarefas informadas antes de outra escrita sobre elas. */
+    public void flushTasks(Collection<UUID> ids) {
+        if (!enabled) {
+            return;
+        }
+        Set<UUID> targets = new HashSet<>(ids);
+        flush(targets::contains);
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!pending.isEmpty()) {
+            log.info("Gravando {} troca(s) de status pendente(s) antes de encerrar", pending.size());
+            flush(id -> true);
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size() + flushing.size();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    public long getFlushedCount() {
+        return flushed.get();
+    }
+
+    public long getConflictCount() {
+        return conflicts.get();
+    }
+
+    // Uma gravação por vez: a seguinte parte da versão que a anterior deixou no banco. Tarefas
+    // ainda em gravação (transação de um chamador em aberto) ficam para a próxima volta
+    private void flush(Predicate<UUID> selected) {
+        synchronized (flushLock) {
+            List<UUID> ids = new ArrayList<>();
+            List<Pending> entries = new ArrayList<>();
+            synchronized (bufferLock) {
+                Iterator<Map.Entry<UUID, Pending>> iterator = pending.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<UUID, Pending> entry = iterator.next();
+                    if (selected.test(entry.getKey()) && !flushing.containsKey(entry.getKey())) {
+                        ids.add(entry.getKey());
+                        entries.add(entry.getValue());
+                        flushing.put(entry.getKey(), entry.getValue());
+                        iterator.remove();
+                    }
+                }
+            }
+            if (ids.isEmpty()) {
+                return;
+            }
+            if (TransactionSynchronizationManager.isSynchronizationActive()
+                    && TransactionSynchronizationManager.isActualTransactionActive()) {
+                // Na transação do chamador: uma conexão só, e a leitura seguinte dele já vê a troca.
+                // Uma falha aqui desfaz a transação dele, e as trocas voltam ao buffer
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        release(ids, entries, status != STATUS_COMMITTED);
+                    }
+                });
+                write(ids, entries);
+                return;
+            }
+            try {
+                write(ids, entries);
+            } catch (RuntimeException e) {
+                // Confirmadas ao cliente mas não gravadas: o usuário recarrega o estado real
+                log.error("Falha ao gravar {} troca(s) de status pendente(s)", ids.size(), e);
+                entries.stream().map(Pending::userId).distinct()
+                    .forEach(userId -> taskEventService.publish(userId, TaskEvent.bulk()));
+            } finally {
+                release(ids, entries, false);
+            }
+        }
+    }
+
+    // restore: gravação desfeita; uma troca confirmada depois dela passa a partir da linha anterior
+    private void release(List<UUID> ids, List<Pending> entries, boolean restore) {
+        synchronized (bufferLock) {
+            for (int i = 0; i < ids.size(); i++) {
+                Pending entry = entries.get(i);
+                int change = flushing.remove(ids.get(i), entry) ? -1 : 0;
+                if (restore && pending.merge(ids.get(i), entry,
+                        (newer, restored) -> new Pending(newer.userId(), restored.base(), newer.row())) == entry) {
+                    change++;
+                }
+                track(entry.userId(), change);
+            }
+        }
+    }
+
+    private void write(List<UUID> ids, List<Pending> entries) {
+        List<TaskStatusRepository.BufferedStatus> updates = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Pending entry = entries.get(i);
+            updates.add(new TaskStatusRepository.BufferedStatus(ids.get(i), entry.userId(), entry.base().version(),
+                entry.row().version(), entry.row().status(), entry.row().updatedAt()));
+        }
+        transaction.executeWithoutResult(status -> {
+            boolean[] updated = taskStatusRepository.updateStatuses(updates);
+            Set<UUID> resync = new HashSet<>();
+            Set<UUID> written = new HashSet<>();
+            for (int i = 0; i < updated.length; i++) {
+                Pending entry = entries.get(i);
+                if (!updated[i]) {
+                    resync.add(entry.userId());
+                    continue;
+                }
+                written.add(entry.userId());
+                TaskRow row = entry.row();
+                taskStatisticsService.recordStatusChange(entry.userId(), entry.base().status(), row.status());
+                if (!row.overdue() && row.dueDate() != null && row.status() != Task.Status.COMPLETED) {
+                    overdueSweeper.track(row.id(), row.dueDate());
+                }
+            }
+            // Entregue após o commit (TaskEventService escuta em AFTER_COMMIT), também o do chamador
+            resync.forEach(userId -> taskEventService.publish(userId, TaskEvent.bulk()));
+            // Os clientes já receberam o UPDATED na troca; aqui só o cache de listagens, local e das outras instâncias
+            if (!written.isEmpty()) {
+                eventPublisher.publishEvent(new TaskListCache.Invalidation(written));
+            }
+            flushed.addAndGet(updated.length - countFalse(updated));
+            conflicts.addAndGet(countFalse(updated));
+        });
+    }
+
+    // Mesmas regras de Task.setStatus e do UPDATE (TaskStatusRepository.SET_STATUS_COLUMNS), sobre a linha gravada
+    private static TaskRow apply(TaskRow base, Task.Status status, LocalDateTime now, long version) {
+        boolean completed = status == Task.Status.COMPLETED;
+        LocalDateTime completedAt = completed ? (base.completedAt() != null ? base.completedAt() : now) : null;
+        boolean overdue = base.dueDate() != null && base.dueDate().isBefore(now) && !completed;
+        return new TaskRow(base.id(), base.title(), base.description(), base.categoryId(), base.priority(), status,
+            base.dueDate(), completedAt, base.createdAt(), now, overdue, version);
+    }
+
+    // Sob bufferLock; entries é a variação de entradas do usuário em pending + flushing
+    private void track(UUID userId, int entries) {
+        long next = generation.incrementAndGet();
+        users.compute(userId, (id, current) -> {
+            int count = (current == null ? 0 : current.entries()) + entries;
+            return count == 0 ? null : new UserPending(count, next);
+        });
+    }
+
+    private static int countFalse(boolean[] values) {
+        int count = 0;
+        for (boolean value : values) {
+            if (!value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // base: linha no banco (ou a que a gravação em curso deixará); row: como ficará após esta gravação,
+    // com a versão vista pelo cliente
+    private record Pending(UUID userId, TaskRow base, TaskRow row) {}
+
+    private record UserPending(int entries, long generation) {}
+}
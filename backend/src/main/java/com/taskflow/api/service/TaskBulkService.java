@@ -0,0 +1,269 @@
+// backend/src/main/java/com/taskflow/api/service/TaskBulkService.java
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.task.BulkTaskRequest;
+import com.taskflow.api.dto.task.BulkTaskResponse;
+import com.taskflow.api.dto.task.BulkTaskResponse.ItemResult;
+import com.taskflow.api.dto.task.BulkTaskResponse.ItemStatus;
+import com.taskflow.api.dto.task.TaskEvent;
+import com.taskflow.api.dto.task.TaskRequest;
+import com.taskflow.api.dto.task.TaskResponse;
+import com.taskflow.api.entity.Category;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.exception.BadRequestException;
+import com.taskflow.api.repository.CategoryRepository;
+import com.taskflow.api.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Operações em lote sobre as tarefas de um usuário (POST /tasks/bulk). Todas as tarefas
+ * referenciadas são carregadas com uma única consulta {@code id IN (...) AND user_id = ?},
+ * as categorias vêm do CategoryCache, e as escritas saem em lotes JDBC no flush (hibernate.jdbc.batch_size).
+ * Cada operação recebe seu próprio resultado; operações inválidas não impedem as demais.
+ *
+ * <p>Uma tarefa só pode aparecer em uma operação do lote; as repetições são recusadas. As tarefas
+ * são carregadas com lock de escrita, então a versão conferida em UPDATE é a que o flush grava e
+ * um conflito vira resultado CONFLICT do item, sem desfazer o lote inteiro.
+ */
+@Service
+@Transactional
+@Timed(value = "taskflow.service", histogram = true)
+public class TaskBulkService {
+    
+    // Limite de parâmetros por cláusula IN (alguns drivers limitam a ~32k parâmetros)
+    private static final int IN_CHUNK_SIZE = 1_000;
+    
+    @Value("${tasks.bulk.max-operations:2000}")
+    private int maxOperations;
+    
+    @Autowired
+    private TaskRepository taskRepository;
+    
+    @Autowired
+    private CategoryRepository categoryRepository;
+    
+    @Autowired
+    private CategoryCache categoryCache;
+    
+    @Autowired
+    private TaskEventService taskEventService;
+    
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+    
+    @Autowired
+    private StatusWriteBehind statusWriteBehind;
+    
+    @Autowired
+    private Validator validator;
+    
+    public BulkTaskResponse execute(BulkTaskRequest request, User user) {
+        List<BulkTaskRequest.Operation> operations = request.operations();
+        if (operations.size() > maxOperations) {
+            throw new BadRequestException("Máximo de " + maxOperations + " operações por requisição");
+        }
+        
+        Map<UUID, Task> owned = loadOwnedTasks(operations, user);
+        Map<UUID, Category> categories = loadCategories(operations);
+        TaskStatisticsService.Delta delta = new TaskStatisticsService.Delta();
+        
+        List<ItemResult> results = new ArrayList<>(operations.size());
+        Set<UUID> referenced = new HashSet<>();
+        List<Task> created = new ArrayList<>();
+        List<Task> deleted = new ArrayList<>();
+        // Índices das operações cujo resultado depende do estado após o flush
+        Map<Integer, Task> pendingResults = new HashMap<>();
+        
+        for (int index = 0; index < operations.size(); index++) {
+            BulkTaskRequest.Operation operation = operations.get(index);
+            String invalid = validate(operation);
+            if (invalid != null) {
+                results.add(new ItemResult(index, operation.id(), ItemStatus.INVALID, null, invalid));
+                continue;
+            }
+            
+            if (operation.type() == BulkTaskRequest.OperationType.CREATE) {
+                Category category = null;
+                if (operation.task().categoryId() != null) {
+                    category = categories.get(operation.task().categoryId());
+                    if (category == null) {
+                        results.add(new ItemResult(index, null, ItemStatus.INVALID, null, "Categoria não encontrada"));
+                        continue;
+                    }
+                }
+                Task task = new Task();
+                task.setUser(user);
+                apply(task, operation.task(), category);
+                created.add(task);
+                delta.add(null, task.getStatus());
+                results.add(null);
+                pendingResults.put(index, task);
+                continue;
+            }
+            
+            if (!referenced.add(operation.id())) {
+                results.add(new ItemResult(index, operation.id(), ItemStatus.INVALID, null,
+                    "Tarefa repetida no lote; envie uma operação por tarefa"));
+                continue;
+            }
+            
+            Task task = owned.get(operation.id());
+            if (task == null) {
+                results.add(new ItemResult(index, operation.id(), ItemStatus.NOT_FOUND, null, "Tarefa não encontrada"));
+                continue;
+            }
+            
+            Task.Status previousStatus = task.getStatus();
+            switch (operation.type()) {
+                case UPDATE -> {
+                    Long expectedVersion = operation.task().version();
+                    if (expectedVersion != null && expectedVersion != task.getVersion()) {
+                        results.add(new ItemResult(index, task.getId(), ItemStatus.CONFLICT, null,
+                            "Tarefa alterada por outra requisição"));
+                        continue;
+                    }
+                    Category category = null;
+                    if (operation.task().categoryId() != null) {
+                        category = categories.get(operation.task().categoryId());
+                        if (category == null) {
+                            results.add(new ItemResult(index, task.getId(), ItemStatus.INVALID, null, "Categoria não encontrada"));
+                            continue;
+                        }
+                    }
+                    apply(task, operation.task(), category);
+                    delta.add(previousStatus, task.getStatus());
+                    results.add(null);
+                    pendingResults.put(index, task);
+                }
+                case STATUS -> {
+                    task.setStatus(operation.status());
+                    delta.add(previousStatus, task.getStatus());
+                    results.add(null);
+                    pendingResults.put(index, task);
+                }
+                case DELETE -> {
+                    owned.remove(task.getId());
+                    deleted.add(task);
+                    delta.add(previousStatus, null);
+                    results.add(new ItemResult(index, task.getId(), ItemStatus.DELETED, null, null));
+                }
+                default -> throw new IllegalStateException("Operação não suportada: " + operation.type());
+            }
+        }
+        
+        // Atualizações em entidades gerenciadas saem no flush por dirty checking, em lote
+        taskRepository.saveAll(created);
+        taskRepository.deleteAll(deleted);
+        taskRepository.flush();
+        taskStatisticsService.apply(user.getId(), delta);
+        
+        Set<Task> createdSet = new HashSet<>(created);
+        int succeeded = 0;
+        for (int index = 0; index < results.size(); index++) {
+            Task task = pendingResults.get(index);
+            if (task != null) {
+                ItemStatus status = createdSet.contains(task) ? ItemStatus.CREATED : ItemStatus.UPDATED;
+                results.set(index, new ItemResult(index, task.getId(), status, TaskResponse.fromEntity(task, categoryCache.forTask(task)), null));
+            }
+            if (results.get(index).isSuccess()) {
+                succeeded++;
+            }
+        }
+        // Um único evento para o lote: os clientes conectados recarregam a lista uma vez
+        if (succeeded > 0) {
+            taskEventService.publish(user.getId(), TaskEvent.bulk());
+        }
+        return new BulkTaskResponse(succeeded, results.size() - succeeded, results);
+    }
+    
+    private Map<UUID, Task> loadOwnedTasks(List<BulkTaskRequest.Operation> operations, User user) {
+        List<UUID> ids = operations.stream()
+            .filter(op -> op != null && op.type() != BulkTaskRequest.OperationType.CREATE && op.id() != null)
+            .map(BulkTaskRequest.Operation::id)
+            .distinct()
+            // Ordem do tipo uuid do PostgreSQL (bytes sem sinal), a mesma do ORDER BY da consulta
+            .sorted(Comparator.comparing(UUID::toString))
+            .collect(Collectors.toList());
+        // Trocas de status ainda no buffer do write-behind são gravadas antes da carga, nesta transação
+        statusWriteBehind.flushTasks(ids);
+        
+        // Lotes concorrentes travam as linhas na mesma ordem (ids e chunks ordenados): sem deadlock entre eles
+        Map<UUID, Task> owned = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+            taskRepository.lockAllByIdInAndUser(chunk, user).forEach(task -> owned.put(task.getId(), task));
+        }
+        return owned;
+    }
+    
+    private Map<UUID, Category> loadCategories(List<BulkTaskRequest.Operation> operations) {
+        Set<UUID> ids = operations.stream()
+            .filter(op -> op != null && op.task() != null && op.task().categoryId() != null)
+            .map(op -> op.task().categoryId())
+            .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        // Existência conferida no CategoryCache; as tarefas recebem só a referência, sem SELECT
+        return ids.stream()
+            .filter(categoryCache::exists)
+            .collect(Collectors.toMap(Function.identity(), categoryRepository::getReferenceById));
+    }
+    
+    private String validate(BulkTaskRequest.Operation operation) {
+        if (operation.type() == null) {
+            return "Tipo da operação é obrigatório";
+        }
+        if (operation.type() != BulkTaskRequest.OperationType.CREATE && operation.id() == null) {
+            return "Id da tarefa é obrigatório";
+        }
+        switch (operation.type()) {
+            case CREATE, UPDATE -> {
+                if (operation.task() == null) {
+                    return "Dados da tarefa são obrigatórios";
+                }
+                Set<ConstraintViolation<TaskRequest>> violations = validator.validate(operation.task());
+                if (!violations.isEmpty()) {
+                    return violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+                }
+            }
+            case STATUS -> {
+                if (operation.status() == null) {
+                    return "Status é obrigatório";
+                }
+            }
+            case DELETE -> { }
+        }
+        return null;
+    }
+    
+    private void apply(Task task, TaskRequest request, Category category) {
+        task.setTitle(request.title());
+        task.setDescription(request.description());
+        task.setPriority(request.priority());
+        task.setStatus(request.status());
+        task.setDueDate(request.dueDate());
+        task.setCategory(category);
+    }
+}
@@ -0,0 +1,50 @@
+// backend/src/main/java/com/taskflow/api/service/TaskCursor.java
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.task.TaskResponse;
+import com.taskflow.api.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição opaca na listagem de tarefas ordenada por (createdAt DESC, id DESC).
+ * {@code NEXT} continua depois da tarefa indicada e {@code PREV} volta para antes dela.
+ */
+record TaskCursor(LocalDateTime createdAt, UUID id, Direction direction) {
+    
+    enum Direction { NEXT, PREV }
+    
+    static TaskCursor after(TaskResponse task) {
+        return new TaskCursor(task.createdAt(), task.id(), Direction.NEXT);
+    }
+    
+    static TaskCursor before(TaskResponse task) {
+        return new TaskCursor(task.createdAt(), task.id(), Direction.PREV);
+    }
+    
+    String encode() {
+        String raw = (direction == Direction.NEXT ? "n" : "p") + "|" + createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    static TaskCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || !(parts[0].equals("n") || parts[0].equals("p"))) {
+                throw new BadRequestException("Cursor inválido");
+            }
+            return new TaskCursor(
+                LocalDateTime.parse(parts[1]),
+                UUID.fromString(parts[2]),
+                parts[0].equals("n") ? Direction.NEXT : Direction.PREV
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Cursor inválido");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+// backend/src/main/java/com/taskflow/api/service/TaskDeadlineListener.java
+package com.taskflow.api.service;
+
+import com.taskflow.api.entity.Task;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener JPA de {@link Task}, instanciado pelo Spring (SpringBeanContainer do Hibernate):
+ * prazos novos ou alterados entram na fila do {@link OverdueSweeper}.
+ */
+@Component
+public class TaskDeadlineListener {
+
+    // Lazy: o listener é criado junto com o EntityManagerFactory, antes dos repositórios
+    @Lazy
+    @Autowired
+    private OverdueSweeper overdueSweeper;
+
+    @PostPersist
+    @PostUpdate
+    public void onChange(Task task) {
+        overdueSweeper.track(task);
+    }
+}
@@ -0,0 +1,358 @@
+// backend/src/main/java/com/taskflow/api/service/TaskEventService.java
+package com.taskflow.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.task.TaskEvent;
+import com.taskflow.api.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fan-out dos eventos de tarefas para as conexões SSE de cada usuário (GET /tasks/events).
+ * Conexões ociosas não ocupam thread: ficam em modo assíncrono no Tomcat e só um pequeno
+ * pool de envio escreve nelas quando há eventos. Cada conexão tem uma fila limitada; se um
+ * cliente lento a estourar, os pendentes são descartados e ele recebe um único RESYNC.
+ *
+ * <p>A escrita no socket é bloqueante: um cliente que não lê prende a thread de envio até o
+ * timeout de escrita do Tomcat. Um vigia encerra a conexão cujo envio passa de {@code send-timeout}
+ * ms e põe uma thread a mais no pool enquanto a presa não volta, para que poucos clientes
+ * travados não parem os eventos de todos.
+ */
+@Service
+public class TaskEventService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskEventService.class);
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong overflows = new AtomicLong();
+    private final AtomicLong stalls = new AtomicLong();
+    // Conexões encerradas pelo vigia cujo envio ainda não voltou; valor: se ganharam thread extra
+    private final Map<Subscriber, Boolean> stalled = new ConcurrentHashMap<>();
+    private int extraSenders; // só o vigia altera
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor sender;
+    private final ScheduledExecutorService watchdog;
+    private final long timeout;
+    private final long sendTimeoutNanos;
+    private final int senderThreads;
+    private final int maxStalledSenders;
+    private final int queueCapacity;
+    private final int maxPerUser;
+    private final int maxSubscribers;
+
+    public TaskEventService(
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${tasks.events.timeout:1800000}") long timeout,
+            @Value("${tasks.events.queue-capacity:256}") int queueCapacity,
+            @Value("${tasks.events.max-per-user:10}") int maxPerUser,
+            @Value("${tasks.events.max-subscribers:10000}") int maxSubscribers,
+            @Value("${tasks.events.sender-threads:4}") int senderThreads,
+            @Value("${tasks.events.send-timeout:10000}") long sendTimeout,
+            @Value("${tasks.events.max-stalled-senders:32}") int maxStalledSenders
+    ) {
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.queueCapacity = queueCapacity;
+        this.maxPerUser = maxPerUser;
+        this.maxSubscribers = maxSubscribers;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeout);
+        this.senderThreads = senderThreads;
+        this.maxStalledSenders = maxStalledSenders;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "task-events-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-events-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(sendTimeout / 4, 100);
+        this.watchdog.scheduleWithFixedDelay(this::checkSends, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(UUID userId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Limite de conexões de eventos atingido", 30);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        Set<Subscriber> userSubscribers = subscribers.compute(userId, (id, current) -> {
+            Set<Subscriber> updated = current != null ? current : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        // Abas esquecidas abertas: acima do limite por usuário, a conexão mais antiga é encerrada
+        if (userSubscribers.size() > maxPerUser) {
+            userSubscribers.stream()
+                .filter(candidate -> candidate != subscriber)
+                .min((a, b) -> Long.compare(a.openedAt, b.openedAt))
+                .ifPresent(Subscriber::close);
+        }
+
+        emitter.onCompletion(subscriber::release);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        // Primeiro envio confirma a conexão para proxies e para o cliente
+        subscriber.offer(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    /** Publica o evento; a entrega acontece só depois do commit da transação corrente. */
+    public void publish(UUID userId, TaskEvent event) {
+        eventPublisher.publishEvent(new UserTaskEvent(userId, event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskEvent(UserTaskEvent event) {
+        Set<Subscriber> userSubscribers = subscribers.get(event.userId());
+        if (userSubscribers == null || userSubscribers.isEmpty()) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event.event());
+        } catch (JsonProcessingException e) {
+            log.warn("Falha ao serializar evento de tarefa", e);
+            return;
+        }
+        String name = event.event().type().name();
+        for (Subscriber subscriber : userSubscribers) {
+            subscriber.offer(SseEmitter.event().name(name).data(json));
+        }
+    }
+
+    // Heartbeat: mantém a conexão viva em proxies e detecta clientes que já foram embora
+    @Scheduled(fixedDelayString = "${tasks.events.heartbeat-interval:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> userSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : userSubscribers) {
+                subscriber.offer(SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getOverflowCount() {
+        return overflows.get();
+    }
+
+    public long getStallCount() {
+        return stalls.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(Subscriber::close));
+        sender.shutdown();
+    }
+
+    // Só na thread do vigia: encerra envios presos e devolve as threads extras quando eles voltam
+    private void checkSends() {
+        try {
+            stalled.entrySet().removeIf(entry -> {
+                if (entry.getKey().isSending()) {
+                    return false;
+                }
+                if (entry.getValue()) {
+                    resizeSender(-1);
+                }
+                entry.getKey().complete();
+                return true;
+            });
+            long now = System.nanoTime();
+            for (Set<Subscriber> userSubscribers : subscribers.values()) {
+                for (Subscriber subscriber : userSubscribers) {
+                    if (subscriber.isSendingSince(now - sendTimeoutNanos)) {
+                        stall(subscriber);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao verificar envios de eventos", e);
+        }
+    }
+
+    private void stall(Subscriber subscriber) {
+        stalls.incrementAndGet();
+        log.debug("Envio de evento preso há mais de {} ms; conexão SSE encerrada",
+            TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+        // Sai da lista antes de tudo: nenhum evento novo vai para esta conexão
+        subscriber.release();
+        boolean compensated = extraSenders < maxStalledSenders;
+        if (compensated) {
+            resizeSender(1);
+        }
+        stalled.put(subscriber, compensated);
+    }
+
+    private void resizeSender(int delta) {
+        extraSenders += delta;
+        int size = senderThreads + extraSenders;
+        if (delta > 0) {
+            sender.setMaximumPoolSize(size);
+            sender.setCorePoolSize(size);
+        } else {
+            sender.setCorePoolSize(size);
+            sender.setMaximumPoolSize(size);
+        }
+    }
+
+    public record UserTaskEvent(UUID userId, TaskEvent event) {}
+
+    private final class Subscriber {
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final long openedAt = System.nanoTime();
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile boolean overflowed;
+        // System.nanoTime do início do envio em curso; 0 sem envio
+        private volatile long sendStartedAt;
+
+        private Subscriber(UUID userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (released.get()) {
+                return;
+            }
+            if (pendingCount.incrementAndGet() > queueCapacity) {
+                pendingCount.decrementAndGet();
+                if (!overflowed) {
+                    overflowed = true;
+                    overflows.incrementAndGet();
+                }
+            } else {
+                pending.add(event);
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        // Um único dreno por conexão por vez: a ordem dos eventos é preservada
+        private void drain() {
+            try {
+                while (!released.get()) {
+                    if (overflowed) {
+                        overflowed = false;
+                        while (pending.poll() != null) {
+                            pendingCount.decrementAndGet();
+                        }
+                        send(SseEmitter.event()
+                            .name(TaskEvent.Type.RESYNC.name())
+                            .data(objectMapper.writeValueAsString(TaskEvent.resync())));
+                        continue;
+                    }
+                    SseEmitter.SseEventBuilder next = pending.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    pendingCount.decrementAndGet();
+                    send(next);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado ou emitter já concluído
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!released.get() && (overflowed || !pending.isEmpty())) {
+                schedule();
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            sendStartedAt = System.nanoTime();
+            try {
+                emitter.send(event);
+            } finally {
+                sendStartedAt = 0;
+            }
+        }
+
+        boolean isSending() {
+            return sendStartedAt != 0;
+        }
+
+        boolean isSendingSince(long nanos) {
+            long startedAt = sendStartedAt;
+            return startedAt != 0 && startedAt - nanos < 0;
+        }
+
+        // Conexão já liberada pelo vigia: concluída só depois que o envio preso voltou
+        void complete() {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // já concluído
+            }
+        }
+
+        void close() {
+            if (!released.get()) {
+                complete();
+                release();
+            }
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                subscriberCount.decrementAndGet();
+                subscribers.computeIfPresent(userId, (id, current) -> {
+                    current.remove(this);
+                    return current.isEmpty() ? null : current;
+                });
+                pending.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+// backend/src/main/java/com/taskflow/api/service/TaskExportService.java
+package com.taskflow.api.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.task.TaskResponse;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.exception.BadRequestException;
+import com.taskflow.api.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exportação das tarefas de um usuário em NDJSON ou CSV com memória constante: as linhas
+ * vêm de um cursor JDBC (fetch size fixo), cada entidade é desanexada do contexto de
+ * persistência logo depois de escrita e a saída é descarregada em blocos.
+ */
+@Service
+@Timed(value = "taskflow.service", histogram = true)
+public class TaskExportService {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int FLUSH_EVERY = 1_000;
+    
+    private static final String CSV_HEADER =
+        "id,title,description,category,priority,status,dueDate,completedAt,createdAt,updatedAt,overdue";
+    
+    @Autowired
+    private TaskRepository taskRepository;
+    
+    @Autowired
+    private CategoryCache categoryCache;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+        
+        private final String contentType;
+        private final String extension;
+        
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+        
+        public String getContentType() { return contentType; }
+        public String getExtension() { return extension; }
+        
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new BadRequestException("Formato de exportação inválido: use ndjson ou csv");
+        }
+    }
+    
+    // Chamado de dentro do StreamingResponseBody: a transação vive enquanto a resposta é escrita
+    @Transactional(readOnly = true)
+    public void export(User user, Format format, OutputStream target) throws IOException {
+        OutputStream out = new BufferedOutputStream(target, BUFFER_SIZE);
+        try (Stream<Task> tasks = taskRepository.streamAllByUser(user)) {
+            if (format == Format.NDJSON) {
+                writeNdjson(tasks.iterator(), out);
+            } else {
+                writeCsv(tasks.iterator(), out);
+            }
+        }
+        out.flush();
+    }
+    
+    private void writeNdjson(Iterator<Task> tasks, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        int written = 0;
+        while (tasks.hasNext()) {
+            Task task = tasks.next();
+            objectMapper.writeValue(generator, TaskResponse.fromEntity(task, categoryCache.forTask(task)));
+            generator.writeRaw('\n');
+            entityManager.detach(task);
+            if (++written % FLUSH_EVERY == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+    }
+    
+    private void writeCsv(Iterator<Task> tasks, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        int written = 0;
+        while (tasks.hasNext()) {
+            Task task = tasks.next();
+            TaskResponse response = TaskResponse.fromEntity(task, categoryCache.forTask(task));
+            writer.write(String.valueOf(response.id()));
+            writer.write(',');
+            writer.write(csv(response.title()));
+            writer.write(',');
+            writer.write(csv(response.description()));
+            writer.write(',');
+            writer.write(csv(response.category() != null ? response.category().name() : null));
+            writer.write(',');
+            writer.write(csv(response.priority()));
+            writer.write(',');
+            writer.write(csv(response.status()));
+            writer.write(',');
+            writer.write(csv(response.dueDate()));
+            writer.write(',');
+            writer.write(csv(response.completedAt()));
+            writer.write(',');
+            writer.write(csv(response.createdAt()));
+            writer.write(',');
+            writer.write(csv(response.updatedAt()));
+            writer.write(',');
+            writer.write(String.valueOf(response.overdue()));
+            writer.write('\n');
+            entityManager.detach(task);
+            if (++written % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+    
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
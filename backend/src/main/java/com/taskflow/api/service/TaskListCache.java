@@ -0,0 +1,264 @@
+// backend/src/main/java/com/taskflow/api/service/TaskListCache.java
+package com.taskflow.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.config.ReplicaRouter;
+import com.taskflow.api.config.ResponseCompression;
+import com.taskflow.api.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache em processo das respostas mais pedidas (primeira página de GET /tasks e GET /tasks/overdue),
+ * já serializadas (e comprimidas, com {@code server.compression}) e com o ETag, por usuário. Um
+ * acerto não consulta o banco, não serializa nem comprime.
+ *
+ * <ul>
+ *   <li>Invalidação: todo {@link TaskEventService#publish} (criação, edição, status, exclusão, lote,
+ *       write-behind e vencimento) descarta as entradas do usuário depois do commit, assim como a
+ *       gravação das trocas do write-behind ({@link Invalidation}). As outras instâncias são
+ *       avisadas por {@link PostgresTaskListNotifier} (LISTEN/NOTIFY).</li>
+ *   <li>Uma resposta montada enquanto o usuário era invalidado não é guardada (geração por usuário).</li>
+ *   <li>Entradas valem no máximo {@code max-age} ms e só com o mesmo conteúdo do {@link CategoryCache}.</li>
+ *   <li>Limitado a {@code max-users} usuários e {@value #MAX_VIEWS_PER_USER} variações por usuário.</li>
+ * </ul>
+ */
+@Service
+public class TaskListCache {
+
+    private static final int MAX_VIEWS_PER_USER = 4;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private ResponseCompression compression;
+
+    @Autowired
+    private ObjectProvider<PostgresTaskListNotifier> notifier;
+
+    @Autowired
+    private ObjectProvider<ReplicaRouter> replicaRouter;
+
+    private final boolean enabled;
+    private final int maxUsers;
+    private final long maxAgeNanos;
+    private final Map<UUID, Slot> slots = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder localInvalidations = new LongAdder();
+    private final LongAdder remoteInvalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Timer servedAge;
+    private final Timer propagationDelay;
+
+    public TaskListCache(@Value("${tasks.list-cache.enabled:true}") boolean enabled,
+                         @Value("${tasks.list-cache.max-users:10000}") int maxUsers,
+                         @Value("${tasks.list-cache.max-age:60000}") long maxAgeMillis,
+                         MeterRegistry registry) {
+        this.enabled = enabled && maxUsers > 0;
+        this.maxUsers = maxUsers;
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMillis);
+        this.servedAge = Timer.builder("tasks.list.cache.age")
+            .description("Idade das respostas servidas do cache (tempo desde a consulta ao banco)")
+            .publishPercentileHistogram()
+            .maximumExpectedValue(Duration.ofMillis(maxAgeMillis))
+            .register(registry);
+        this.propagationDelay = Timer.builder("tasks.list.cache.invalidation.delay")
+            .description("Tempo entre a invalidação em outra instância e a chegada do aviso (inclui diferença de relógio)")
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Resposta da {@code view} do usuário: do cache, ou montada com {@code version} (ETag) e
+     * {@code body} e guardada. {@code view} identifica a listagem e os parâmetros que mudam o corpo.
+     */
+    public Cached get(User user, String view, Supplier<String> version, Supplier<?> body) {
+        UUID userId = user.getId();
+        String categories = categoryCache.fingerprint();
+        long now = System.nanoTime();
+        Slot slot = slots.get(userId);
+        if (slot != null) {
+            Cached cached = slot.views.get(view);
+            if (cached != null && now - cached.loadedAt() < maxAgeNanos && cached.categories().equals(categories)) {
+                hits.increment();
+                servedAge.record(now - cached.loadedAt(), TimeUnit.NANOSECONDS);
+                return cached;
+            }
+        } else {
+            if (slots.size() >= maxUsers) {
+                evict();
+            }
+            slot = slots.computeIfAbsent(userId, id -> new Slot());
+        }
+
+        misses.increment();
+        // Lida antes da consulta: uma invalidação durante a montagem impede que o resultado seja guardado
+        long generation = slot.generation;
+        String etag = version.get();
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body.get());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar listagem de tarefas", e);
+        }
+        Cached fresh = new Cached(json, compression.compress(json), etag, categories, now);
+        synchronized (slot) {
+            if (slot.generation == generation && slots.get(userId) == slot) {
+                if (slot.views.size() >= MAX_VIEWS_PER_USER && !slot.views.containsKey(view)) {
+                    slot.views.clear();
+                }
+                slot.views.put(view, fresh);
+            }
+        }
+        return fresh;
+    }
+
+    // Antes do envio do SSE (TaskEventService): o cliente que recarrega ao receber o evento não pega a lista antiga
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskEvent(TaskEventService.UserTaskEvent event) {
+        invalidateEverywhere(event.userId());
+    }
+
+    // Escritas sem evento próprio (gravação do write-behind): as outras instâncias podem ter
+    // montado a listagem com as linhas de antes da gravação
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInvalidation(Invalidation invalidation) {
+        invalidation.userIds().forEach(this::invalidateEverywhere);
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(RemoteInvalidation invalidation) {
+        if (invalidation.userIds() == null) {
+            slots.values().forEach(TaskListCache::clear);
+            slots.clear();
+            return;
+        }
+        propagationDelay.record(Math.max(0, System.currentTimeMillis() - invalidation.sentAt()), TimeUnit.MILLISECONDS);
+        for (UUID userId : invalidation.userIds()) {
+            invalidate(userId);
+            remoteInvalidations.increment();
+        }
+        // A escrita foi confirmada no primário; as próximas leituras do usuário aqui também vão para ele
+        replicaRouter.ifAvailable(router -> invalidation.userIds().forEach(router::recordWrite));
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public long getLocalInvalidationCount() {
+        return localInvalidations.sum();
+    }
+
+    public long getRemoteInvalidationCount() {
+        return remoteInvalidations.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private void invalidateEverywhere(UUID userId) {
+        if (!enabled) {
+            return;
+        }
+        invalidate(userId);
+        localInvalidations.increment();
+        notifier.ifAvailable(channel -> channel.send(userId));
+    }
+
+    private void invalidate(UUID userId) {
+        Slot slot = slots.get(userId);
+        if (slot != null) {
+            clear(slot);
+        }
+    }
+
+    private static void clear(Slot slot) {
+        synchronized (slot) {
+            slot.generation++;
+            slot.views.clear();
+        }
+    }
+
+    // Limite atingido: descarta ~10% dos usuários em ordem arbitrária (como o VerifiedTokenCache)
+    private void evict() {
+        int toRemove = slots.size() - maxUsers + Math.max(1, maxUsers / 10);
+        Iterator<Slot> it = slots.values().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Corpo JSON serializado, o mesmo em gzip ({@code null} se pequeno ou sem compressão) e ETag
+     * (sem aspas) de uma listagem; {@code loadedAt} em System.nanoTime.
+     */
+    public record Cached(byte[] json, byte[] gzip, String etag, String categories, long loadedAt) {}
+
+    /** Usuários cujas listagens mudaram sem {@link TaskEventService#publish}; vale após o commit. */
+    public record Invalidation(Collection<UUID> userIds) {}
+
+    /**
+     * Usuários invalidados por outra instância ({@code sentAt} em epoch ms), ou, com
+     * {@code userIds} nulo, todo o cache (conexão de LISTEN restabelecida).
+     */
+    public record RemoteInvalidation(List<UUID> userIds, long sentAt) {
+        public static RemoteInvalidation everything() {
+            return new RemoteInvalidation(null, System.currentTimeMillis());
+        }
+    }
+
+    private static final class Slot {
+        private final Map<String, Cached> views = new ConcurrentHashMap<>();
+        private volatile long generation;
+    }
+}
@@ -1,51 +1,129 @@
 // backend/src/main/java/com/taskflow/api/service/TaskService.java
 package com.taskflow.api.service;
 
+import com.taskflow.api.dto.common.CursorPage;
+import com.taskflow.api.dto.task.TaskEvent;
 import com.taskflow.api.dto.task.TaskRequest;
 import com.taskflow.api.dto.task.TaskResponse;
-import com.taskflow.api.entity.Category;
+import com.taskflow.api.dto.task.TaskRow;
+import com.taskflow.api.dto.task.TaskSearchResult;
 import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.TaskStatistics;
 import com.taskflow.api.entity.User;
+import com.taskflow.api.exception.BadRequestException;
+import com.taskflow.api.exception.ConflictException;
 import com.taskflow.api.exception.NotFoundException;
 import com.taskflow.api.repository.CategoryRepository;
 import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.TaskSearchRepository;
+import com.taskflow.api.repository.TaskStatusRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
+@Timed(value = "taskflow.service", histogram = true)
 public class TaskService {
     
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final String CONFLICT_MESSAGE = "Tarefa alterada por outra requisição; recarregue e tente novamente";
+    
     @Autowired
     private TaskRepository taskRepository;
     
     @Autowired
     private CategoryRepository categoryRepository;
     
+    @Autowired
+    private CategoryCache categoryCache;
+    
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+    
+    @Autowired
+    private TaskSearchRepository taskSearchRepository;
+    
+    @Autowired
+    private TaskEventService taskEventService;
+    
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+    
+    @Autowired
+    private OverdueSweeper overdueSweeper;
+    
+    @Autowired
+    private StatusWriteBehind statusWriteBehind;
+    
+    @Transactional(readOnly = true)
     public Page<TaskResponse> getAllTasksByUser(User user, Pageable pageable) {
-        Page<Task> tasks = taskRepository.findByUserOrderByCreatedAtDesc(user, pageable);
-        return tasks.map(TaskResponse::fromEntity);
+        return taskRepository.findRowsByUser(user, pageable).map(this::toResponse);
     }
     
-    public TaskResponse getTaskByIdAndUser(UUID id, User user) {
-        Task task = taskRepository.findById(id)
-            .orElseThrow(() -> new NotFoundException("Tarefa não encontrada"));
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getTasksByCursor(User user, String cursor, int size, boolean includeCount) {
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        // Uma linha a mais indica se existe página seguinte, sem COUNT
+        Pageable fetch = PageRequest.of(0, limit + 1);
         
-        if (!task.getUser().getId().equals(user.getId())) {
-            throw new NotFoundException("Tarefa não encontrada");
+        TaskCursor position = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor);
+        List<TaskRow> tasks;
+        boolean hasNext;
+        boolean hasPrev;
+        if (position == null) {
+            tasks = taskRepository.findFirstByCursor(user, fetch);
+            hasNext = tasks.size() > limit;
+            hasPrev = false;
+        } else if (position.direction() == TaskCursor.Direction.NEXT) {
+            tasks = taskRepository.findAfterCursor(user, position.createdAt(), position.id(), fetch);
+            hasNext = tasks.size() > limit;
+            hasPrev = true;
+        } else {
+            tasks = new ArrayList<>(taskRepository.findBeforeCursor(user, position.createdAt(), position.id(), fetch));
+            hasPrev = tasks.size() > limit;
+            hasNext = true;
+            if (hasPrev) {
+                tasks.remove(tasks.size() - 1);
+            }
+            Collections.reverse(tasks);
         }
+        if (tasks.size() > limit) {
+            tasks = tasks.subList(0, limit);
+        }
+        
+        List<TaskResponse> content = toResponses(tasks);
+        String nextCursor = hasNext && !content.isEmpty() ? TaskCursor.after(content.get(content.size() - 1)).encode() : null;
+        String prevCursor = hasPrev && !content.isEmpty() ? TaskCursor.before(content.get(0)).encode() : null;
+        // Total opcional lido dos contadores por usuário (chave primária), nunca de um COUNT em tasks
+        Long total = includeCount ? taskStatisticsService.getStatistics(user.getId()).getTotalTasks() : null;
         
-        return TaskResponse.fromEntity(task);
+        return new CursorPage<>(content, limit, nextCursor, prevCursor, total);
+    }
+    
+    @Transactional(readOnly = true)
+    public TaskResponse getTaskByIdAndUser(UUID id, User user) {
+        Task task = taskRepository.findOwnedById(id, user)
+            .orElseThrow(() -> new NotFoundException("Tarefa não encontrada"));
+        
+        return toResponse(task);
     }
     
     public TaskResponse createTask(TaskRequest request, User user) {
@@ -58,23 +136,31 @@ public class TaskService {
         task.setDueDate(request.dueDate());
         
         if (request.categoryId() != null) {
-            Category category = categoryRepository.findById(request.categoryId())
-                .orElseThrow(() -> new NotFoundException("Categoria não encontrada"));
-            task.setCategory(category);
+            // Existência conferida no cache; a associação usa só a referência, sem SELECT
+            if (!categoryCache.exists(request.categoryId())) {
+                throw new NotFoundException("Categoria não encontrada");
+            }
+            task.setCategory(categoryRepository.getReferenceById(request.categoryId()));
         }
         
         Task savedTask = taskRepository.save(task);
-        return TaskResponse.fromEntity(savedTask);
+        taskStatisticsService.recordCreated(user.getId(), savedTask.getStatus());
+        TaskResponse response = toResponse(savedTask);
+        taskEventService.publish(user.getId(), TaskEvent.created(response));
+        return response;
     }
     
     public TaskResponse updateTask(UUID id, TaskRequest request, User user) {
-        Task task = taskRepository.findById(id)
+        // Troca de status ainda no buffer: gravada antes, nesta transação, para a edição partir dela
+        statusWriteBehind.flushTasks(List.of(id));
+        Task task = taskRepository.findOwnedById(id, user)
             .orElseThrow(() -> new NotFoundException("Tarefa não encontrada"));
-        
-        if (!task.getUser().getId().equals(user.getId())) {
-            throw new NotFoundException("Tarefa não encontrada");
+        // Versão informada pelo cliente: edição feita sobre um estado que já mudou
+        if (request.version() != null && request.version() != task.getVersion()) {
+            throw new ConflictException(CONFLICT_MESSAGE);
         }
         
+        Task.Status previousStatus = task.getStatus();
         task.setTitle(request.title());
         task.setDescription(request.description());
         task.setPriority(request.priority());
@@ -82,72 +168,148 @@ public class TaskService {
         task.setDueDate(request.dueDate());
         
         if (request.categoryId() != null) {
-            Category category = categoryRepository.findById(request.categoryId())
-                .orElseThrow(() -> new NotFoundException("Categoria não encontrada"));
-            task.setCategory(category);
+            // Existência conferida no cache; a associação usa só a referência, sem SELECT
+            if (!categoryCache.exists(request.categoryId())) {
+                throw new NotFoundException("Categoria não encontrada");
+            }
+            task.setCategory(categoryRepository.getReferenceById(request.categoryId()));
         } else {
             task.setCategory(null);
         }
         
         Task updatedTask = taskRepository.save(task);
-        return TaskResponse.fromEntity(updatedTask);
+        taskStatisticsService.recordStatusChange(user.getId(), previousStatus, updatedTask.getStatus());
+        TaskResponse response = toResponse(updatedTask);
+        taskEventService.publish(user.getId(), TaskEvent.updated(response));
+        return response;
     }
     
     public void deleteTask(UUID id, User user) {
-        Task task = taskRepository.findById(id)
+        statusWriteBehind.flushTasks(List.of(id));
+        Task task = taskRepository.findOwnedById(id, user)
             .orElseThrow(() -> new NotFoundException("Tarefa não encontrada"));
         
-        if (!task.getUser().getId().equals(user.getId())) {
-            throw new NotFoundException("Tarefa não encontrada");
-        }
-        
         taskRepository.delete(task);
+        taskStatisticsService.recordDeleted(user.getId(), task.getStatus());
+        taskEventService.publish(user.getId(), TaskEvent.deleted(id));
     }
     
-    public List<TaskResponse> searchTasks(String query, User user) {
-        List<Task> tasks = taskRepository.findByUserAndTitleOrDescriptionContainingIgnoreCase(user, query);
-        return tasks.stream()
-            .map(TaskResponse::fromEntity)
-            .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<TaskSearchResult> searchTasks(String query, User user, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Termo de busca é obrigatório");
+        }
+        
+        // Ranking e trecho destacado vêm do banco; as entidades da página são carregadas em uma consulta
+        Page<TaskSearchRepository.TaskSearchHit> hits = taskSearchRepository.search(user.getId(), query.trim(), pageable);
+        List<UUID> ids = hits.map(TaskSearchRepository.TaskSearchHit::taskId).getContent();
+        Map<UUID, Task> tasks = taskRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+        
+        List<TaskSearchResult> results = new ArrayList<>(ids.size());
+        for (TaskSearchRepository.TaskSearchHit hit : hits) {
+            Task task = tasks.get(hit.taskId());
+            if (task != null) {
+                results.add(new TaskSearchResult(
+                    toResponse(task),
+                    hit.rank(),
+                    TaskSearchRepository.toHtmlSnippet(hit.snippet())
+                ));
+            }
+        }
+        return new PageImpl<>(results, pageable, hits.getTotalElements());
     }
     
+    @Transactional(readOnly = true)
     public List<TaskResponse> getTasksByStatus(Task.Status status, User user) {
-        List<Task> tasks = taskRepository.findByUserAndStatusOrderByCreatedAtDesc(user, status);
-        return tasks.stream()
-            .map(TaskResponse::fromEntity)
-            .collect(Collectors.toList());
+        return toResponses(taskRepository.findRowsByUserAndStatus(user, status));
     }
     
+    @Transactional(readOnly = true)
     public List<TaskResponse> getOverdueTasks(User user) {
-        List<Task> tasks = taskRepository.findOverdueTasks(user, LocalDateTime.now());
-        return tasks.stream()
-            .map(TaskResponse::fromEntity)
-            .collect(Collectors.toList());
+        return toResponses(taskRepository.findOverdueRows(user));
     }
     
-    public TaskResponse updateTaskStatus(UUID id, Task.Status status, User user) {
-        Task task = taskRepository.findById(id)
-            .orElseThrow(() -> new NotFoundException("Tarefa não encontrada"));
-        
-        if (!task.getUser().getId().equals(user.getId())) {
-            throw new NotFoundException("Tarefa não encontrada");
+    /**
+     * Troca de status em um UPDATE condicional, sem carregar a entidade. Com {@code version},
+     * só aplica se a tarefa ainda estiver naquela versão (409 caso contrário). Com o write-behind
+     * ligado a troca é confirmada no buffer e gravada em lote logo depois (ver {@link StatusWriteBehind}).
+     */
+    public TaskResponse updateTaskStatus(UUID id, Task.Status status, Long version, User user) {
+        if (statusWriteBehind.isEnabled()) {
+            TaskRow buffered = statusWriteBehind.submit(id, user, status, version);
+            // null: buffer cheio, segue pelo UPDATE síncrono
+            if (buffered != null) {
+                TaskResponse response = toResponse(buffered);
+                taskEventService.publish(user.getId(), TaskEvent.updated(response));
+                return response;
+            }
         }
         
-        task.setStatus(status);
+        TaskStatusRepository.StatusChange change = taskStatusRepository
+            .updateStatus(id, user.getId(), version, status, LocalDateTime.now())
+            .orElseThrow(() -> taskRepository.existsByIdAndUser(id, user)
+                ? new ConflictException(CONFLICT_MESSAGE)
+                : new NotFoundException("Tarefa não encontrada"));
         
-        Task updatedTask = taskRepository.save(task);
-        return TaskResponse.fromEntity(updatedTask);
+        TaskRow row = change.task();
+        taskStatisticsService.recordStatusChange(user.getId(), change.previousStatus(), row.status());
+        // Sem entidade não há TaskDeadlineListener: o prazo é registrado aqui
+        if (!row.overdue() && row.dueDate() != null && row.status() != Task.Status.COMPLETED) {
+            overdueSweeper.track(row.id(), row.dueDate());
+        }
+        TaskResponse response = toResponse(row);
+        taskEventService.publish(user.getId(), TaskEvent.updated(response));
+        return response;
+    }
+    
+    // ETags (GET condicional): calculados por sondas baratas, antes da consulta e da serialização
+    
+    /** ETag comum às listagens do usuário: muda com qualquer criação, edição, exclusão ou vencimento. */
+    @Transactional(readOnly = true)
+    public String getTasksETag(User user) {
+        TaskRepository.ListVersion version = taskRepository.findListVersion(user);
+        return etag("tasks", version.getTotal(), version.getLastModified(), version.getOverdue(),
+            categoryCache.fingerprint(), statusWriteBehind.fingerprint(user.getId()));
+    }
+    
+    /** ETag de uma tarefa, ou {@code null} se ela não existir para o usuário (o GET responde 404). */
+    @Transactional(readOnly = true)
+    public String getTaskETag(UUID id, User user) {
+        return taskRepository.findVersion(id, user)
+            .map(version -> etag("task", id, version.getLastModified(), version.getOverdue(),
+                categoryCache.get(version.getCategoryId()), statusWriteBehind.fingerprint(user.getId())))
+            .orElse(null);
+    }
+    
+    /**
+     * ETag das estatísticas sem carregá-las: uma consulta pela chave primária de task_statistics
+     * com a contagem de vencidas, então o 304 não chega a {@link #getTaskStatistics}. Sem
+     * contadores (o GET agrega as tarefas), a versão da listagem.
+     */
+    @Transactional(readOnly = true)
+    public String getStatisticsETag(User user) {
+        return taskStatisticsService.findVersion(user.getId())
+            .map(version -> etag("stats", version.getUpdatedAt(), version.getTotal(), version.getOverdue()))
+            .orElseGet(() -> {
+                TaskRepository.ListVersion version = taskRepository.findListVersion(user);
+                return etag("stats", version.getTotal(), version.getLastModified(), version.getOverdue());
+            });
     }
     
+    @Transactional(readOnly = true)
     public Map<String, Object> getTaskStatistics(User user) {
         Map<String, Object> stats = new HashMap<>();
         
-        long totalTasks = taskRepository.countByUser(user);
-        long pendingTasks = taskRepository.countByUserAndStatus(user, Task.Status.PENDING);
-        long inProgressTasks = taskRepository.countByUserAndStatus(user, Task.Status.IN_PROGRESS);
-        long completedTasks = taskRepository.countByUserAndStatus(user, Task.Status.COMPLETED);
-        long cancelledTasks = taskRepository.countByUserAndStatus(user, Task.Status.CANCELLED);
-        long overdueTasks = taskRepository.countOverdueTasks(user, LocalDateTime.now());
+        // Contadores por status: leitura única por chave primária em task_statistics
+        TaskStatistics counters = taskStatisticsService.getStatistics(user.getId());
+        long totalTasks = counters.getTotalTasks();
+        long pendingTasks = counters.getPendingTasks();
+        long inProgressTasks = counters.getInProgressTasks();
+        long completedTasks = counters.getCompletedTasks();
+        long cancelledTasks = counters.getCancelledTasks();
+        // Vencidas pelo marcador persistido (OverdueSweeper), contadas só no índice parcial
+        long overdueTasks = taskRepository.countOverdueTasks(user);
         
         stats.put("totalTasks", totalTasks);
         stats.put("pendingTasks", pendingTasks);
@@ -166,4 +328,29 @@ public class TaskService {
         
         return stats;
     }
+    
+    private static String etag(Object... parts) {
+        StringBuilder content = new StringBuilder();
+        for (Object part : parts) {
+            content.append(part).append('|');
+        }
+        return DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    // Leituras desta instância enxergam as trocas de status ainda no buffer do write-behind
+    private TaskResponse toResponse(Task task) {
+        return statusWriteBehind.overlay(TaskResponse.fromEntity(task, categoryCache.forTask(task)));
+    }
+    
+    private TaskResponse toResponse(TaskRow row) {
+        return statusWriteBehind.overlay(row.toResponse(categoryCache.get(row.categoryId())));
+    }
+    
+    private List<TaskResponse> toResponses(List<TaskRow> rows) {
+        List<TaskResponse> responses = new ArrayList<>(rows.size());
+        for (TaskRow row : rows) {
+            responses.add(toResponse(row));
+        }
+        return responses;
+    }
 }
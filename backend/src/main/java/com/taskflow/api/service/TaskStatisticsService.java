@@ -0,0 +1,222 @@
+// backend/src/main/java/com/taskflow/api/service/TaskStatisticsService.java
+package com.taskflow.api.service;
+
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.TaskStatistics;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.TaskStatisticsRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Mantém a tabela task_statistics: um registro por usuário com o total de tarefas e a
+ * contagem por status. As escritas do TaskService aplicam deltas na mesma transação,
+ * então GET /tasks/stats lê os contadores pela chave primária em vez de contar a tabela tasks.
+ */
+@Service
+@Transactional
+@Timed(value = "taskflow.service", histogram = true)
+public class TaskStatisticsService {
+    
+    private static final Logger log = LoggerFactory.getLogger(TaskStatisticsService.class);
+    private static final int CHECK_BATCH_SIZE = 500;
+    
+    @Autowired
+    private TaskStatisticsRepository statisticsRepository;
+    
+    @Autowired
+    private TaskRepository taskRepository;
+    
+    private final TransactionTemplate newTransaction;
+    private final boolean onConflictSupported;
+    
+    public TaskStatisticsService(PlatformTransactionManager transactionManager, DataSource dataSource)
+            throws MetaDataAccessException {
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        this.onConflictSupported = "PostgreSQL".equalsIgnoreCase(product);
+    }
+    
+    public void initialize(UUID userId) {
+        if (!statisticsRepository.existsById(userId)) {
+            statisticsRepository.save(new TaskStatistics(userId));
+        }
+    }
+    
+    public void recordCreated(UUID userId, Task.Status status) {
+        applyDelta(userId, null, status);
+    }
+    
+    public void recordStatusChange(UUID userId, Task.Status from, Task.Status to) {
+        if (from != to) {
+            applyDelta(userId, from, to);
+        }
+    }
+    
+    public void recordDeleted(UUID userId, Task.Status status) {
+        applyDelta(userId, status, null);
+    }
+    
+    // Sem registro (usuário que ainda não escreveu), conta as tarefas sem gravar nada: o
+    // registro nasce na primeira escrita, dentro da transação dela
+    @Transactional(readOnly = true)
+    public TaskStatistics getStatistics(UUID userId) {
+        return statisticsRepository.findById(userId)
+            .orElseGet(() -> aggregate(userId));
+    }
+    
+    @Transactional(readOnly = true)
+    public Optional<TaskStatisticsRepository.Version> findVersion(UUID userId) {
+        return statisticsRepository.findVersion(userId);
+    }
+    
+    /**
+     * Confere os contadores de todos os usuários contra um GROUP BY sobre tasks, em lotes,
+     * e corrige divergências com o registro bloqueado para não competir com escritas em andamento.
+     */
+    @Scheduled(cron = "${tasks.statistics.consistency-check.cron:0 0 3 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int checkConsistency() {
+        int repaired = 0;
+        int page = 0;
+        Page<UUID> userIds;
+        do {
+            userIds = statisticsRepository.findAllUserIds(PageRequest.of(page++, CHECK_BATCH_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            
+            Map<UUID, TaskStatistics> expected = new HashMap<>();
+            userIds.forEach(userId -> expected.put(userId, new TaskStatistics(userId)));
+            for (TaskRepository.UserStatusCount row : taskRepository.countGroupedByUserAndStatus(userIds.getContent())) {
+                add(expected.get(row.getUserId()), row.getStatus(), row.getTotal());
+            }
+            
+            for (TaskStatistics current : statisticsRepository.findAllById(userIds.getContent())) {
+                if (!current.sameCountsAs(expected.get(current.getUserId()))) {
+                    repair(current.getUserId());
+                    repaired++;
+                }
+            }
+        } while (userIds.hasNext());
+        
+        if (repaired > 0) {
+            log.warn("Contadores de tarefas divergentes corrigidos para {} usuário(s)", repaired);
+        }
+        return repaired;
+    }
+    
+    private void applyDelta(UUID userId, Task.Status from, Task.Status to) {
+        Delta delta = new Delta();
+        delta.add(from, to);
+        apply(userId, delta);
+    }
+    
+    /** Aplica de uma vez as variações acumuladas por várias escritas (operações em lote). */
+    public void apply(UUID userId, Delta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        if (update(userId, delta.total, delta.perStatus) == 0 && insertFromTasks(userId) == 0) {
+            // Sem registro: o INSERT na transação chamadora já conta as escritas dela, então o
+            // delta só é aplicado se outra transação criou o registro primeiro
+            update(userId, delta.total, delta.perStatus);
+        }
+    }
+    
+    private int update(UUID userId, long total, long[] delta) {
+        return statisticsRepository.applyDelta(
+            userId,
+            total,
+            delta[Task.Status.PENDING.ordinal()],
+            delta[Task.Status.IN_PROGRESS.ordinal()],
+            delta[Task.Status.COMPLETED.ordinal()],
+            delta[Task.Status.CANCELLED.ordinal()],
+            LocalDateTime.now()
+        );
+    }
+    
+    private int insertFromTasks(UUID userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return onConflictSupported
+            ? statisticsRepository.insertFromTasksOnConflictDoNothing(userId, now)
+            : statisticsRepository.insertFromTasksIfAbsent(userId, now);
+    }
+    
+    // Só a checagem agendada chega aqui, fora de qualquer transação
+    private void repair(UUID userId) {
+        newTransaction.executeWithoutResult(status -> statisticsRepository.findByIdForUpdate(userId)
+            .ifPresent(statistics -> {
+                TaskStatistics expected = aggregate(userId);
+                statistics.setTotalTasks(expected.getTotalTasks());
+                for (Task.Status taskStatus : Task.Status.values()) {
+                    statistics.setCount(taskStatus, expected.getCount(taskStatus));
+                }
+            }));
+    }
+    
+    private TaskStatistics aggregate(UUID userId) {
+        TaskStatistics statistics = new TaskStatistics(userId);
+        List<TaskRepository.StatusCount> counts = taskRepository.countGroupedByStatus(userId);
+        counts.forEach(row -> add(statistics, row.getStatus(), row.getTotal()));
+        return statistics;
+    }
+    
+    // Variação dos contadores; from == null é criação e to == null é exclusão
+    public static class Delta {
+        private final long[] perStatus = new long[Task.Status.values().length];
+        private long total;
+        
+        public void add(Task.Status from, Task.Status to) {
+            if (from == to) {
+                return;
+            }
+            if (from != null) {
+                perStatus[from.ordinal()]--;
+                total--;
+            }
+            if (to != null) {
+                perStatus[to.ordinal()]++;
+                total++;
+            }
+        }
+        
+        public boolean isEmpty() {
+            if (total != 0) {
+                return false;
+            }
+            for (long value : perStatus) {
+                if (value != 0) return false;
+            }
+            return true;
+        }
+    }
+    
+    private static void add(TaskStatistics statistics, Task.Status status, long count) {
+        statistics.setCount(status, statistics.getCount(status) + count);
+        statistics.setTotalTasks(statistics.getTotalTasks() + count);
+    }
+}
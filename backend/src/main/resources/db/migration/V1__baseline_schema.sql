@@ -0,0 +1,38 @@
+-- Esquema inicial, exatamente o que o ddl-auto do Hibernate gerava antes das migrações.
+-- Bancos já criados pelo ddl-auto são registrados nesta versão (baseline-on-migrate) sem reexecutá-la:
+-- qualquer objeto novo vai em uma versão seguinte, nunca aqui.
+
+CREATE TABLE users (
+    id              uuid         NOT NULL PRIMARY KEY,
+    name            varchar(100) NOT NULL,
+    email           varchar(150) NOT NULL UNIQUE,
+    password        varchar(255) NOT NULL,
+    avatar_url      varchar(255),
+    role            varchar(255) NOT NULL CHECK (role IN ('USER', 'ADMIN')),
+    email_verified  boolean      NOT NULL,
+    created_at      timestamp(6) NOT NULL,
+    updated_at      timestamp(6)
+);
+
+CREATE TABLE categories (
+    id          uuid         NOT NULL PRIMARY KEY,
+    name        varchar(100) NOT NULL UNIQUE,
+    color       varchar(7)   NOT NULL,
+    icon        varchar(50),
+    created_at  timestamp(6) NOT NULL,
+    updated_at  timestamp(6)
+);
+
+CREATE TABLE tasks (
+    id            uuid          NOT NULL PRIMARY KEY,
+    user_id       uuid          NOT NULL REFERENCES users (id),
+    category_id   uuid          REFERENCES categories (id),
+    title         varchar(255)  NOT NULL,
+    description   varchar(1000),
+    priority      varchar(255)  NOT NULL CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH', 'URGENT')),
+    status        varchar(255)  NOT NULL CHECK (status IN ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED')),
+    due_date      timestamp(6),
+    completed_at  timestamp(6),
+    created_at    timestamp(6)  NOT NULL,
+    updated_at    timestamp(6)
+);
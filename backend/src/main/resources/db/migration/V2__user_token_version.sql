@@ -0,0 +1,3 @@
+-- Versão dos tokens do usuário (User.tokenVersion): incrementada para revogar os JWT já emitidos.
+-- IF NOT EXISTS: bancos vindos do ddl-auto podem já ter a coluna.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version integer NOT NULL DEFAULT 0;
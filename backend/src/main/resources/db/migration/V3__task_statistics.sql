@@ -0,0 +1,25 @@
+-- Contadores de tarefas por usuário e status (TaskStatistics), mantidos a cada escrita.
+-- Os usuários existentes recebem a contagem atual; os demais, pelo TaskStatisticsService na primeira escrita.
+CREATE TABLE IF NOT EXISTS task_statistics (
+    user_id            uuid         NOT NULL PRIMARY KEY,
+    total_tasks        bigint       NOT NULL,
+    pending_tasks      bigint       NOT NULL,
+    in_progress_tasks  bigint       NOT NULL,
+    completed_tasks    bigint       NOT NULL,
+    cancelled_tasks    bigint       NOT NULL,
+    updated_at         timestamp(6)
+);
+
+INSERT INTO task_statistics (user_id, total_tasks, pending_tasks, in_progress_tasks, completed_tasks,
+                             cancelled_tasks, updated_at)
+SELECT u.id,
+       count(t.id),
+       count(t.id) FILTER (WHERE t.status = 'PENDING'),
+       count(t.id) FILTER (WHERE t.status = 'IN_PROGRESS'),
+       count(t.id) FILTER (WHERE t.status = 'COMPLETED'),
+       count(t.id) FILTER (WHERE t.status = 'CANCELLED'),
+       now()
+FROM users u
+LEFT JOIN tasks t ON t.user_id = u.id
+GROUP BY u.id
+ON CONFLICT (user_id) DO NOTHING;
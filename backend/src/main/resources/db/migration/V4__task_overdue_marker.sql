@@ -0,0 +1,3 @@
+-- Marcador persistido de vencimento (Task.overdue). IF NOT EXISTS: bancos vindos do ddl-auto
+-- podem já ter a coluna. Os valores são acertados pelo OverdueSweeper na inicialização.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS overdue boolean NOT NULL DEFAULT false;
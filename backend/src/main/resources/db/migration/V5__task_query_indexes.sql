@@ -0,0 +1,28 @@
+-- Índices das consultas de TaskRepository e UserRepository.
+-- IF NOT EXISTS: bancos vindos do ddl-auto já podem ter idx_tasks_user_created_id.
+-- Verificação dos planos: benchmarks/ (QueryPlanCheck).
+
+-- Listagem paginada, cursor (keyset), exportação e período: user_id + created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_tasks_user_created_id ON tasks (user_id, created_at DESC, id DESC);
+
+-- Filtros por status, prioridade e categoria, todos ordenados por created_at DESC;
+-- o de status também atende os agregados por status (task_statistics) só pelo índice
+CREATE INDEX IF NOT EXISTS idx_tasks_user_status_created ON tasks (user_id, status, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_tasks_user_priority_created ON tasks (user_id, priority, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_tasks_user_category_created ON tasks (user_id, category_id, created_at DESC);
+
+-- Chave estrangeira: exclusão de categoria sem varrer tasks
+CREATE INDEX IF NOT EXISTS idx_tasks_category ON tasks (category_id);
+
+-- Vencidas: tarefas em aberto por usuário e prazo, com o marcador para contagem só no índice
+CREATE INDEX IF NOT EXISTS idx_tasks_user_open_due ON tasks (user_id, due_date)
+    INCLUDE (overdue) WHERE status <> 'COMPLETED';
+
+-- OverdueSweeper: prazos ainda não marcados, em ordem de vencimento
+CREATE INDEX IF NOT EXISTS idx_tasks_open_deadline ON tasks (due_date)
+    WHERE overdue = false AND status <> 'COMPLETED';
+
+-- TokenRevocationService (a cada 30s) e contagem de administradores: poucas linhas de users
+CREATE INDEX IF NOT EXISTS idx_users_bumped_token_version ON users (id)
+    INCLUDE (token_version) WHERE token_version > 0;
+CREATE INDEX IF NOT EXISTS idx_users_admin ON users (role) WHERE role = 'ADMIN';
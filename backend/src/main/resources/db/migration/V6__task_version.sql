@@ -0,0 +1,3 @@
+-- Versão para controle otimista (Task.version, @Version). Linhas existentes começam em 0;
+-- cada UPDATE (JPA ou TaskStatusRepository) incrementa a coluna.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
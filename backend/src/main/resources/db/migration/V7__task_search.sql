@@ -0,0 +1,29 @@
+-- Busca textual (PostgresTaskSearchRepository). Roda uma única vez: a coluna gerada reescreve a tabela tasks.
+-- Sem pg_trgm (sem permissão para CREATE EXTENSION) a migração segue sem os índices de trigramas;
+-- SearchConfig verifica o que existe e escolhe a consulta.
+
+DO $$
+BEGIN
+    CREATE EXTENSION IF NOT EXISTS pg_trgm;
+EXCEPTION
+    WHEN insufficient_privilege OR undefined_file THEN
+        RAISE NOTICE 'pg_trgm indisponível (%): busca sem índices de trigramas', SQLERRM;
+END
+$$;
+
+-- Título com peso A, descrição com peso B; mesma configuração de PostgresTaskSearchRepository.TEXT_SEARCH_CONFIG
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('portuguese', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('portuguese', coalesce(description, '')), 'B')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING gin (search_vector);
+
+-- Trechos de palavra (LIKE '%termo%') que o tsquery não cobre
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm') THEN
+        CREATE INDEX IF NOT EXISTS idx_tasks_title_trgm ON tasks USING gin (lower(title) gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_tasks_description_trgm ON tasks USING gin (lower(description) gin_trgm_ops);
+    END IF;
+END
+$$;
@@ -0,0 +1,73 @@
+// backend/src/test/java/com/taskflow/api/IntegrationTest.java
+package com.taskflow.api;
+
+import com.taskflow.api.dto.task.TaskRequest;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.security.JwtService;
+import com.taskflow.api.service.TaskStatisticsService;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Base dos testes de integração: aplicação completa sobre H2 em memória (perfil {@code test},
+ * esquema gerado pelo Hibernate), um banco por contexto. Cada teste cria os próprios usuários,
+ * então os testes não dependem da ordem nem limpam o banco.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:${random.uuid};DB_CLOSE_DELAY=-1",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "management.server.port=0",
+    "spring.jpa.show-sql=false",
+    "logging.level.com.taskflow=INFO"
+})
+@ActiveProfiles("test")
+public abstract class IntegrationTest {
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected TaskStatisticsService taskStatisticsService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    /** Usuário novo com os contadores criados, como no cadastro (AuthService.register). */
+    protected User createUser() {
+        User user = new User("Usuário de teste", "teste-" + UUID.randomUUID() + "@taskflow.dev",
+            "$2a$10$testtesttesttesttesttesttesttesttesttesttesttesttestt");
+        user.setEmailVerified(true);
+        user = userRepository.save(user);
+        taskStatisticsService.initialize(user.getId());
+        return user;
+    }
+
+    /** Autentica como o JwtAuthenticationFilter: as transações seguintes aplicam o filtro de dono. */
+    protected void authenticate(User user) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    /** Cabeçalho Authorization com um JWT do usuário, para as requisições via MockMvc. */
+    protected String bearer(User user) {
+        return "Bearer " + jwtService.generateToken(user);
+    }
+
+    protected static TaskRequest request(String title, Task.Status status) {
+        return new TaskRequest(title, "Descrição de teste", null, Task.Priority.MEDIUM, status, null, null);
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+}
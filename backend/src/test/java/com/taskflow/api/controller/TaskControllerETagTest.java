@@ -0,0 +1,133 @@
+// backend/src/test/java/com/taskflow/api/controller/TaskControllerETagTest.java
+package com.taskflow.api.controller;
+
+import com.taskflow.api.IntegrationTest;
+import com.taskflow.api.dto.task.TaskResponse;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Compressão ligada para qualquer tamanho: todas as leituras têm as duas variantes
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "server.compression.enabled=true",
+    "server.compression.min-response-size=1B"
+})
+class TaskControllerETagTest extends IntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    private User user;
+    private String authorization;
+    private TaskResponse task;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        user = createUser();
+        authorization = bearer(user);
+        authenticate(user);
+        task = taskService.createTask(request("Revisar contrato", Task.Status.PENDING), user);
+        taskService.createTask(request("Pagar boleto", Task.Status.IN_PROGRESS), user);
+        // As requisições se autenticam só pelo JWT: o filtro não sobrescreve um contexto já preenchido
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void answersNotModifiedForAMatchingStrongETag() throws Exception {
+        for (String path : new String[]{"/tasks", "/tasks?cursor=", "/tasks/" + task.id(), "/tasks/stats"}) {
+            String etag = etag(path, null);
+
+            assertThat(etag).as(path).startsWith("\"").doesNotStartWith("W/");
+            mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, authorization)
+                    .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+        }
+    }
+
+    @Test
+    void changesTheETagAfterAWrite() throws Exception {
+        String list = etag("/tasks", null);
+        String single = etag("/tasks/" + task.id(), null);
+        String stats = etag("/tasks/stats", null);
+
+        mockMvc.perform(patch("/tasks/" + task.id() + "/status").param("status", "COMPLETED")
+                .header(HttpHeaders.AUTHORIZATION, authorization))
+            .andExpect(status().isOk());
+
+        assertThat(etag("/tasks", null)).isNotEqualTo(list);
+        assertThat(etag("/tasks/" + task.id(), null)).isNotEqualTo(single);
+        assertThat(etag("/tasks/stats", null)).isNotEqualTo(stats);
+        mockMvc.perform(get("/tasks").header(HttpHeaders.AUTHORIZATION, authorization)
+                .header(HttpHeaders.IF_NONE_MATCH, list))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void gzipVariantHasItsOwnETag() throws Exception {
+        for (String path : new String[]{"/tasks", "/tasks?cursor=", "/tasks/stats"}) {
+            MvcResult identity = read(path, null);
+            MvcResult gzip = read(path, "gzip, deflate");
+            String identityETag = identity.getResponse().getHeader(HttpHeaders.ETAG);
+            String gzipETag = gzip.getResponse().getHeader(HttpHeaders.ETAG);
+
+            assertThat(identity.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).as(path).isNull();
+            assertThat(gzip.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).as(path).isEqualTo("gzip");
+            assertThat(gzip.getResponse().getHeaders(HttpHeaders.VARY)).as(path).contains(HttpHeaders.ACCEPT_ENCODING);
+            assertThat(gzipETag).as(path).isNotEqualTo(identityETag).endsWith("-gzip\"");
+            assertThat(gunzip(gzip.getResponse().getContentAsByteArray()))
+                .as(path).isEqualTo(identity.getResponse().getContentAsByteArray());
+
+            // Cada ETag só vale para a própria variante
+            mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, authorization)
+                    .header(HttpHeaders.ACCEPT_ENCODING, "gzip").header(HttpHeaders.IF_NONE_MATCH, gzipETag))
+                .andExpect(status().isNotModified());
+            mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, authorization)
+                    .header(HttpHeaders.IF_NONE_MATCH, gzipETag))
+                .andExpect(status().isOk());
+        }
+    }
+
+    private String etag(String path, String acceptEncoding) throws Exception {
+        return read(path, acceptEncoding).getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private MvcResult read(String path, String acceptEncoding) throws Exception {
+        var request = get(path).header(HttpHeaders.AUTHORIZATION, authorization);
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+// backend/src/test/java/com/taskflow/api/controller/TaskOwnershipTest.java
+package com.taskflow.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.IntegrationTest;
+import com.taskflow.api.dto.task.TaskResponse;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Tarefa de outro usuário responde como inexistente: 404, nunca 403 nem os dados
+@AutoConfigureMockMvc
+class TaskOwnershipTest extends IntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User owner;
+    private String intruder;
+    private TaskResponse task;
+
+    @BeforeEach
+    void setUp() {
+        owner = createUser();
+        authenticate(owner);
+        task = taskService.createTask(request("Só do dono", Task.Status.PENDING), owner);
+        intruder = bearer(createUser());
+        // As requisições se autenticam só pelo JWT: o filtro não sobrescreve um contexto já preenchido
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readingAnotherUsersTaskReturnsNotFound() throws Exception {
+        mockMvc.perform(get("/tasks/" + task.id()).header(HttpHeaders.AUTHORIZATION, intruder))
+            .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/tasks/" + task.id()).header(HttpHeaders.AUTHORIZATION, bearer(owner)))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void writingAnotherUsersTaskReturnsNotFoundAndLeavesItUnchanged() throws Exception {
+        String body = objectMapper.writeValueAsString(request("Alterada por outro", Task.Status.COMPLETED));
+
+        mockMvc.perform(put("/tasks/" + task.id()).header(HttpHeaders.AUTHORIZATION, intruder)
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(patch("/tasks/" + task.id() + "/status").param("status", "COMPLETED")
+                .header(HttpHeaders.AUTHORIZATION, intruder))
+            .andExpect(status().isNotFound());
+
+        Task stored = taskRepository.findById(task.id()).orElseThrow();
+        assertThat(stored.getTitle()).isEqualTo("Só do dono");
+        assertThat(stored.getStatus()).isEqualTo(Task.Status.PENDING);
+        assertThat(stored.getVersion()).isEqualTo(task.version());
+    }
+
+    @Test
+    void deletingAnotherUsersTaskReturnsNotFoundAndKeepsIt() throws Exception {
+        mockMvc.perform(delete("/tasks/" + task.id()).header(HttpHeaders.AUTHORIZATION, intruder))
+            .andExpect(status().isNotFound());
+
+        assertThat(taskRepository.findById(task.id())).isPresent();
+        assertThat(taskStatisticsService.getStatistics(owner.getId()).getTotalTasks()).isEqualTo(1);
+    }
+}
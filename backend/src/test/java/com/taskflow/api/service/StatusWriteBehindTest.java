@@ -0,0 +1,127 @@
+// backend/src/test/java/com/taskflow/api/service/StatusWriteBehindTest.java
+package com.taskflow.api.service;
+
+import com.taskflow.api.IntegrationTest;
+import com.taskflow.api.dto.task.TaskResponse;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.TaskStatistics;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Intervalo longo: a gravação só acontece quando o teste chama flush()
+@TestPropertySource(properties = {
+    "tasks.status.write-behind.enabled=true",
+    "tasks.status.write-behind.flush-interval=3600000"
+})
+class StatusWriteBehindTest extends IntegrationTest {
+
+    @Autowired
+    private StatusWriteBehind writeBehind;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private TaskResponse task;
+
+    @BeforeEach
+    void setUp() {
+        writeBehind.flush();
+        user = createUser();
+        authenticate(user);
+        task = taskService.createTask(request("Cartão do quadro", Task.Status.PENDING), user);
+    }
+
+    @Test
+    void coalescesRepeatedChangesIntoOneWrite() {
+        long coalesced = writeBehind.getCoalescedCount();
+        long flushed = writeBehind.getFlushedCount();
+
+        taskService.updateTaskStatus(task.id(), Task.Status.IN_PROGRESS, null, user);
+        taskService.updateTaskStatus(task.id(), Task.Status.COMPLETED, null, user);
+
+        assertThat(writeBehind.getCoalescedCount() - coalesced).isEqualTo(1);
+        assertThat(writeBehind.getPendingCount()).isEqualTo(1);
+        assertThat(stored(task.id()).getStatus()).isEqualTo(Task.Status.PENDING);
+
+        writeBehind.flush();
+
+        assertThat(writeBehind.getFlushedCount() - flushed).isEqualTo(1);
+        assertThat(writeBehind.getPendingCount()).isZero();
+        Task written = stored(task.id());
+        assertThat(written.getStatus()).isEqualTo(Task.Status.COMPLETED);
+        assertThat(written.getCompletedAt()).isNotNull();
+        assertThat(written.getVersion()).isEqualTo(task.version() + 2);
+        // Contadores atualizados uma vez, da linha gravada para o estado final
+        TaskStatistics statistics = taskStatisticsService.getStatistics(user.getId());
+        assertThat(statistics.getPendingTasks()).isZero();
+        assertThat(statistics.getInProgressTasks()).isZero();
+        assertThat(statistics.getCompletedTasks()).isEqualTo(1);
+    }
+
+    @Test
+    void everyChangeGetsANewVersionAndETag() {
+        String before = taskService.getTaskETag(task.id(), user);
+
+        TaskResponse first = taskService.updateTaskStatus(task.id(), Task.Status.IN_PROGRESS, null, user);
+        String afterFirst = taskService.getTaskETag(task.id(), user);
+        String fingerprintFirst = writeBehind.fingerprint(user.getId());
+        TaskResponse second = taskService.updateTaskStatus(task.id(), Task.Status.PENDING, null, user);
+        String afterSecond = taskService.getTaskETag(task.id(), user);
+
+        assertThat(first.version()).isEqualTo(task.version() + 1);
+        assertThat(second.version()).isEqualTo(task.version() + 2);
+        // Voltar ao status original não repete o ETag da leitura anterior
+        assertThat(List.of(before, afterFirst, afterSecond)).doesNotHaveDuplicates();
+        assertThat(fingerprintFirst).isNotEmpty().isNotEqualTo(writeBehind.fingerprint(user.getId()));
+        assertThat(taskService.getTaskByIdAndUser(task.id(), user).version()).isEqualTo(second.version());
+
+        writeBehind.flush();
+
+        assertThat(writeBehind.fingerprint(user.getId())).isEmpty();
+        assertThat(stored(task.id()).getVersion()).isEqualTo(second.version());
+    }
+
+    @Test
+    void restoresChangesWhenTheCallerTransactionRollsBack() {
+        taskService.updateTaskStatus(task.id(), Task.Status.IN_PROGRESS, null, user);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            writeBehind.flushTasks(List.of(task.id()));
+            assertThat(stored(task.id()).getStatus()).isEqualTo(Task.Status.IN_PROGRESS);
+            status.setRollbackOnly();
+        });
+
+        assertThat(stored(task.id()).getStatus()).isEqualTo(Task.Status.PENDING);
+        assertThat(writeBehind.getPendingCount()).isEqualTo(1);
+        assertThat(writeBehind.fingerprint(user.getId())).isNotEmpty();
+
+        writeBehind.flush();
+
+        assertThat(stored(task.id()).getStatus()).isEqualTo(Task.Status.IN_PROGRESS);
+        TaskStatistics statistics = taskStatisticsService.getStatistics(user.getId());
+        assertThat(statistics.getPendingTasks()).isZero();
+        assertThat(statistics.getInProgressTasks()).isEqualTo(1);
+    }
+
+    private Task stored(UUID id) {
+        return taskRepository.findById(id).orElseThrow();
+    }
+}
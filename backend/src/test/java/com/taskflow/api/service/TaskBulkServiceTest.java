@@ -0,0 +1,131 @@
+// backend/src/test/java/com/taskflow/api/service/TaskBulkServiceTest.java
+package com.taskflow.api.service;
+
+import com.taskflow.api.IntegrationTest;
+import com.taskflow.api.dto.task.BulkTaskRequest;
+import com.taskflow.api.dto.task.BulkTaskRequest.Operation;
+import com.taskflow.api.dto.task.BulkTaskRequest.OperationType;
+import com.taskflow.api.dto.task.BulkTaskResponse;
+import com.taskflow.api.dto.task.BulkTaskResponse.ItemResult;
+import com.taskflow.api.dto.task.BulkTaskResponse.ItemStatus;
+import com.taskflow.api.dto.task.TaskRequest;
+import com.taskflow.api.dto.task.TaskResponse;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.TaskStatistics;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskBulkServiceTest extends IntegrationTest {
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser();
+        authenticate(user);
+    }
+
+    @Test
+    void reportsAResultPerOperationInRequestOrder() {
+        TaskResponse toComplete = taskService.createTask(request("Concluir no lote", Task.Status.PENDING), user);
+        TaskResponse toDelete = taskService.createTask(request("Excluir no lote", Task.Status.PENDING), user);
+        UUID missing = UUID.randomUUID();
+
+        BulkTaskResponse response = execute(
+            new Operation(OperationType.CREATE, null, request("Criada no lote", Task.Status.IN_PROGRESS), null),
+            new Operation(OperationType.CREATE, null, request("x", Task.Status.PENDING), null),
+            new Operation(OperationType.STATUS, toComplete.id(), null, Task.Status.COMPLETED),
+            new Operation(OperationType.DELETE, toDelete.id(), null, null),
+            new Operation(OperationType.DELETE, missing, null, null),
+            new Operation(OperationType.STATUS, UUID.randomUUID(), null, null)
+        );
+
+        assertThat(response.results()).extracting(ItemResult::index).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(response.results()).extracting(ItemResult::status).containsExactly(
+            ItemStatus.CREATED, ItemStatus.INVALID, ItemStatus.UPDATED, ItemStatus.DELETED,
+            ItemStatus.NOT_FOUND, ItemStatus.INVALID);
+        assertThat(response.succeeded()).isEqualTo(3);
+        assertThat(response.failed()).isEqualTo(3);
+
+        ItemResult created = response.results().get(0);
+        assertThat(created.id()).isNotNull();
+        assertThat(created.task().title()).isEqualTo("Criada no lote");
+        assertThat(response.results().get(1).message()).isNotBlank();
+        assertThat(response.results().get(2).task().status()).isEqualTo(Task.Status.COMPLETED);
+        assertThat(response.results().get(4).id()).isEqualTo(missing);
+
+        assertThat(taskRepository.findById(created.id())).isPresent();
+        assertThat(taskRepository.findById(toComplete.id()).orElseThrow().getStatus()).isEqualTo(Task.Status.COMPLETED);
+        assertThat(taskRepository.findById(toDelete.id())).isEmpty();
+        // Um delta só para o lote: +1 em andamento, pendente → concluída, −1 pendente
+        TaskStatistics statistics = taskStatisticsService.getStatistics(user.getId());
+        assertThat(statistics.getTotalTasks()).isEqualTo(2);
+        assertThat(statistics.getPendingTasks()).isZero();
+        assertThat(statistics.getInProgressTasks()).isEqualTo(1);
+        assertThat(statistics.getCompletedTasks()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsASecondOperationOnTheSameTask() {
+        TaskResponse task = taskService.createTask(request("Tarefa repetida", Task.Status.PENDING), user);
+
+        BulkTaskResponse response = execute(
+            new Operation(OperationType.STATUS, task.id(), null, Task.Status.IN_PROGRESS),
+            new Operation(OperationType.DELETE, task.id(), null, null)
+        );
+
+        assertThat(response.results()).extracting(ItemResult::status)
+            .containsExactly(ItemStatus.UPDATED, ItemStatus.INVALID);
+        assertThat(response.results().get(1).message()).contains("repetida");
+        // Só a primeira operação vale: a tarefa continua existindo, com o novo status
+        assertThat(taskRepository.findById(task.id()).orElseThrow().getStatus()).isEqualTo(Task.Status.IN_PROGRESS);
+    }
+
+    @Test
+    void reportsStaleVersionsAsConflictsAndOtherUsersTasksAsNotFound() {
+        TaskResponse task = taskService.createTask(request("Editada em paralelo", Task.Status.PENDING), user);
+        TaskResponse updated = taskService.updateTaskStatus(task.id(), Task.Status.IN_PROGRESS, null, user);
+        User other = createUser();
+        authenticate(other);
+        TaskResponse foreign = taskService.createTask(request("De outro usuário", Task.Status.PENDING), other);
+        authenticate(user);
+
+        TaskRequest stale = new TaskRequest("Edição atrasada", null, null, Task.Priority.HIGH,
+            Task.Status.COMPLETED, null, task.version());
+        TaskRequest current = new TaskRequest("Edição em dia", null, null, Task.Priority.HIGH,
+            Task.Status.PENDING, null, null);
+        BulkTaskResponse response = execute(
+            new Operation(OperationType.UPDATE, task.id(), stale, null),
+            new Operation(OperationType.UPDATE, foreign.id(), current, null)
+        );
+
+        assertThat(response.results()).extracting(ItemResult::status)
+            .containsExactly(ItemStatus.CONFLICT, ItemStatus.NOT_FOUND);
+        assertThat(response.succeeded()).isZero();
+        Task unchanged = taskRepository.findById(task.id()).orElseThrow();
+        assertThat(unchanged.getTitle()).isEqualTo("Editada em paralelo");
+        assertThat(unchanged.getVersion()).isEqualTo(updated.version());
+        assertThat(taskRepository.findById(foreign.id()).orElseThrow().getTitle()).isEqualTo("De outro usuário");
+    }
+
+    private BulkTaskResponse execute(Operation... operations) {
+        return taskBulkService.execute(new BulkTaskRequest(List.of(operations)), user);
+    }
+}
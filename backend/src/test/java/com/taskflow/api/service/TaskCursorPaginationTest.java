@@ -0,0 +1,99 @@
+// backend/src/test/java/com/taskflow/api/service/TaskCursorPaginationTest.java
+package com.taskflow.api.service;
+
+import com.taskflow.api.IntegrationTest;
+import com.taskflow.api.dto.common.CursorPage;
+import com.taskflow.api.dto.task.TaskResponse;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskCursorPaginationTest extends IntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser();
+        authenticate(user);
+    }
+
+    @Test
+    void walksForwardAndBackAcrossTheEdges() {
+        List<UUID> expected = createTasks(5);
+
+        CursorPage<TaskResponse> first = taskService.getTasksByCursor(user, null, 2, false);
+        CursorPage<TaskResponse> second = taskService.getTasksByCursor(user, first.nextCursor(), 2, false);
+        CursorPage<TaskResponse> last = taskService.getTasksByCursor(user, second.nextCursor(), 2, false);
+
+        assertThat(ids(first)).isEqualTo(expected.subList(0, 2));
+        assertThat(ids(second)).isEqualTo(expected.subList(2, 4));
+        assertThat(ids(last)).isEqualTo(expected.subList(4, 5));
+        // Bordas: sem anterior na primeira página, sem próxima na última
+        assertThat(first.prevCursor()).isNull();
+        assertThat(second.prevCursor()).isNotNull();
+        assertThat(second.nextCursor()).isNotNull();
+        assertThat(last.nextCursor()).isNull();
+        assertThat(last.prevCursor()).isNotNull();
+
+        CursorPage<TaskResponse> backToSecond = taskService.getTasksByCursor(user, last.prevCursor(), 2, false);
+        CursorPage<TaskResponse> backToFirst = taskService.getTasksByCursor(user, backToSecond.prevCursor(), 2, false);
+
+        assertThat(ids(backToSecond)).isEqualTo(ids(second));
+        assertThat(backToSecond.nextCursor()).isNotNull();
+        assertThat(ids(backToFirst)).isEqualTo(ids(first));
+        assertThat(backToFirst.prevCursor()).isNull();
+        assertThat(backToFirst.nextCursor()).isNotNull();
+    }
+
+    @Test
+    void lastFullPageHasNoNextCursor() {
+        List<UUID> expected = createTasks(4);
+
+        CursorPage<TaskResponse> first = taskService.getTasksByCursor(user, "", 2, true);
+        CursorPage<TaskResponse> second = taskService.getTasksByCursor(user, first.nextCursor(), 2, false);
+
+        assertThat(first.totalElements()).isEqualTo(4);
+        assertThat(second.totalElements()).isNull();
+        assertThat(ids(second)).isEqualTo(expected.subList(2, 4));
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void emptyListHasNoCursors() {
+        CursorPage<TaskResponse> page = taskService.getTasksByCursor(user, null, 20, true);
+
+        assertThat(page.content()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+        assertThat(page.prevCursor()).isNull();
+        assertThat(page.totalElements()).isZero();
+    }
+
+    // Ids na ordem da listagem: createdAt DESC, id DESC
+    private List<UUID> createTasks(int count) {
+        List<TaskResponse> created = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            created.add(taskService.createTask(request("Tarefa " + i, Task.Status.PENDING), user));
+        }
+        return created.stream()
+            .sorted(Comparator.comparing(TaskResponse::createdAt).thenComparing(TaskResponse::id).reversed())
+            .map(TaskResponse::id)
+            .toList();
+    }
+
+    private static List<UUID> ids(CursorPage<TaskResponse> page) {
+        return page.content().stream().map(TaskResponse::id).toList();
+    }
+}
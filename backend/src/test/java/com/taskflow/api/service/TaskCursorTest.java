@@ -0,0 +1,57 @@
+// backend/src/test/java/com/taskflow/api/service/TaskCursorTest.java
+package com.taskflow.api.service;
+
+import com.taskflow.api.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskCursorTest {
+
+    @Test
+    void roundTripsPositionAndDirection() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 9, 14, 30, 15, 123_456_000);
+        UUID id = UUID.randomUUID();
+
+        for (TaskCursor.Direction direction : TaskCursor.Direction.values()) {
+            TaskCursor cursor = new TaskCursor(createdAt, id, direction);
+            String encoded = cursor.encode();
+
+            assertThat(encoded).matches("[A-Za-z0-9_-]+");   // seguro em query string, sem padding
+            assertThat(TaskCursor.decode(encoded)).isEqualTo(cursor);
+        }
+    }
+
+    @Test
+    void keepsWholeSecondTimestamps() {
+        // LocalDateTime.toString omite os segundos zerados ("14:30"); o parse precisa aceitar
+        TaskCursor cursor = new TaskCursor(LocalDateTime.of(2024, 3, 9, 14, 30), UUID.randomUUID(),
+            TaskCursor.Direction.NEXT);
+
+        assertThat(TaskCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsMalformedCursorsAsBadRequest() {
+        String wrongDirection = encode("x|2024-03-09T14:30:15|" + UUID.randomUUID());
+        String wrongDate = encode("n|ontem|" + UUID.randomUUID());
+        String wrongId = encode("p|2024-03-09T14:30:15|não-é-uuid");
+        String missingPart = encode("n|2024-03-09T14:30:15");
+
+        for (String cursor : new String[]{"%%%", wrongDirection, wrongDate, wrongId, missingPart}) {
+            assertThatThrownBy(() -> TaskCursor.decode(cursor))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Cursor inválido");
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,103 @@
+// backend/src/test/java/com/taskflow/api/service/TaskStatisticsServiceTest.java
+package com.taskflow.api.service;
+
+import com.taskflow.api.IntegrationTest;
+import com.taskflow.api.dto.task.TaskRequest;
+import com.taskflow.api.dto.task.TaskResponse;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.TaskStatistics;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.TaskStatisticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskStatisticsServiceTest extends IntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatisticsRepository statisticsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser();
+        authenticate(user);
+    }
+
+    @Test
+    void appliesADeltaForEveryWrite() {
+        TaskResponse task = taskService.createTask(request("Contada", Task.Status.PENDING), user);
+        assertCounters(1, 1, 0, 0, 0);
+
+        taskService.updateTaskStatus(task.id(), Task.Status.IN_PROGRESS, null, user);
+        assertCounters(1, 0, 1, 0, 0);
+
+        taskService.updateTask(task.id(), new TaskRequest("Contada", null, null, Task.Priority.LOW,
+            Task.Status.COMPLETED, null, null), user);
+        assertCounters(1, 0, 0, 1, 0);
+
+        // Mesma situação: sem delta
+        taskService.updateTaskStatus(task.id(), Task.Status.COMPLETED, null, user);
+        assertCounters(1, 0, 0, 1, 0);
+
+        taskService.createTask(request("Cancelada", Task.Status.CANCELLED), user);
+        taskService.deleteTask(task.id(), user);
+        assertCounters(1, 0, 0, 0, 1);
+    }
+
+    @Test
+    void repairsCountersThatDriftedFromTheTasks() {
+        taskService.createTask(request("Primeira", Task.Status.PENDING), user);
+        taskService.createTask(request("Segunda", Task.Status.COMPLETED), user);
+        // Divergência simulada: um delta que não corresponde a nenhuma escrita
+        corrupt(5, 3, 2);
+
+        assertThat(taskStatisticsService.checkConsistency()).isGreaterThanOrEqualTo(1);
+
+        assertCounters(2, 1, 0, 1, 0);
+    }
+
+    @Test
+    void missingRowIsCreatedByTheWriteWithoutCountingItTwice() {
+        taskService.createTask(request("Antes dos contadores", Task.Status.PENDING), user);
+        statisticsRepository.deleteById(user.getId());
+
+        // Leitura sem registro: agrega as tarefas e não grava nada
+        TaskStatistics aggregated = taskStatisticsService.getStatistics(user.getId());
+        assertThat(aggregated.getTotalTasks()).isEqualTo(1);
+        assertThat(statisticsRepository.existsById(user.getId())).isFalse();
+
+        taskService.createTask(request("Depois", Task.Status.IN_PROGRESS), user);
+
+        assertThat(statisticsRepository.existsById(user.getId())).isTrue();
+        assertCounters(2, 1, 1, 0, 0);
+    }
+
+    private void corrupt(long total, long pending, long completed) {
+        new TransactionTemplate(transactionManager)
+            .executeWithoutResult(status ->
+                statisticsRepository.applyDelta(user.getId(), total, pending, 0, completed, 0, LocalDateTime.now()));
+    }
+
+    private void assertCounters(long total, long pending, long inProgress, long completed, long cancelled) {
+        TaskStatistics statistics = statisticsRepository.findById(user.getId()).orElseThrow();
+        assertThat(statistics.getTotalTasks()).as("total").isEqualTo(total);
+        assertThat(statistics.getPendingTasks()).as("pendentes").isEqualTo(pending);
+        assertThat(statistics.getInProgressTasks()).as("em andamento").isEqualTo(inProgress);
+        assertThat(statistics.getCompletedTasks()).as("concluídas").isEqualTo(completed);
+        assertThat(statistics.getCancelledTasks()).as("canceladas").isEqualTo(cancelled);
+    }
+}
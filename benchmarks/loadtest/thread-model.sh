@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# Carga HTTP contra uma API já em execução, para comparar modelos de thread.
+# Requer: curl, jq e hey (https://github.com/rakyll/hey).
+#
+#   ./thread-model.sh platform   # backend iniciado normalmente (Java 17+)
+#   ./thread-model.sh virtual    # backend com -Pvirtual-threads (Java 21)
+#   diff -y target/loadtest/platform.tsv target/loadtest/virtual.tsv
+set -euo pipefail
+
+LABEL="${1:?uso: $0 <rótulo> (ex.: platform | virtual)}"
+BASE_URL="${BASE_URL:-http://localhost:8080/api}"
+DURATION="${DURATION:-60s}"
+CONCURRENCY="${CONCURRENCY:-50 200 1000 2000}"
+TASKS="${TASKS:-500}"
+OUT_DIR="$(dirname "$0")/../target/loadtest"
+mkdir -p "$OUT_DIR"
+
+EMAIL="loadtest-$(date +%s)@taskflow.local"
+PASSWORD="loadtest123"
+
+TOKEN=$(curl -sf -X POST "$BASE_URL/auth/register" -H 'Content-Type: application/json' \
+  -d "{\"name\":\"Load Test\",\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}" | jq -r .token)
+
+# Massa de dados do usuário via POST /tasks/bulk
+OPS=$(jq -n --argjson n "$TASKS" '{operations: [range(0; $n) | {type: "CREATE", task: {
+  title: "Tarefa de carga \(.)", description: "Gerada pelo teste de carga",
+  priority: "MEDIUM", status: "PENDING"}}]}')
+curl -sf -X POST "$BASE_URL/tasks/bulk" -H "Authorization: Bearer $TOKEN" \
+  -H 'Content-Type: application/json' -d "$OPS" > /dev/null
+
+RESULT="$OUT_DIR/$LABEL.tsv"
+printf 'endpoint\tconcurrency\trps\tp50_ms\tp99_ms\terrors\n' > "$RESULT"
+
+run() {
+  local name="$1" concurrency="$2"; shift 2
+  local report
+  report=$(hey -z "$DURATION" -c "$concurrency" "$@")
+  local rps p50 p99 errors
+  rps=$(awk '/Requests\/sec/ {print $2}' <<< "$report")
+  p50=$(awk '/ 50% in/ {printf "%.1f", $3 * 1000}' <<< "$report")
+  p99=$(awk '/ 99% in/ {printf "%.1f", $3 * 1000}' <<< "$report")
+  errors=$(awk '/^\s+\[[^2][0-9][0-9]\]/ {sum += $2} END {print sum + 0}' <<< "$report")
+  printf '%s\t%s\t%s\t%s\t%s\t%s\n' "$name" "$concurrency" "$rps" "$p50" "$p99" "$errors" | tee -a "$RESULT"
+}
+
+for c in $CONCURRENCY; do
+  run "GET /tasks" "$c" -H "Authorization: Bearer $TOKEN" "$BASE_URL/tasks?page=0&size=20"
+  run "GET /tasks/stats" "$c" -H "Authorization: Bearer $TOKEN" "$BASE_URL/tasks/stats"
+  # Login: BCrypt ocupa CPU; com threads virtuais a fila deixa de ser o pool do Tomcat
+  run "POST /auth/login" "$c" -m POST -T 'application/json' \
+    -d "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}" "$BASE_URL/auth/login"
+done
+
+echo "Resultado: $RESULT"
@@ -0,0 +1,93 @@
+// benchmarks/src/main/java/com/taskflow/benchmarks/BenchmarkContext.java
+package com.taskflow.benchmarks;
+
+import com.taskflow.api.TaskFlowApiApplication;
+import com.taskflow.api.entity.User;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sobe a aplicação completa para os benchmarks que precisam de repositórios e transações.
+ * Por padrão usa um H2 em memória (esquema gerado pelo Hibernate); com
+ * {@code -Dbench.db.url=jdbc:postgresql://...} (e opcionalmente {@code bench.db.username}/
+ * {@code bench.db.password}) roda contra um PostgreSQL local, que é limpo e recriado pelas
+ * migrações Flyway do backend. Os argumentos de linha de comando têm precedência sobre o
+ * application.yml do backend.
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {}
+
+    public static boolean isPostgres() {
+        return System.getProperty("bench.db.url", "").startsWith("jdbc:postgresql:");
+    }
+
+    /**
+     * Autentica o usuário como o JwtAuthenticationFilter faria, em todas as threads (as do JMH
+     * incluídas): as transações seguintes aplicam o filtro de dono das tarefas.
+     */
+    public static void authenticate(User user) {
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    public static ConfigurableApplicationContext start() {
+        return start(Map.of());
+    }
+
+    public static ConfigurableApplicationContext start(Map<String, String> overrides) {
+        return start(overrides, new ApplicationContextInitializer<?>[0]);
+    }
+
+    public static ConfigurableApplicationContext start(Map<String, String> overrides,
+                                                       ApplicationContextInitializer<?>... initializers) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("management.server.port", "0");
+        if (isPostgres()) {
+            String url = System.getProperty("bench.db.url");
+            String username = System.getProperty("bench.db.username", "taskflow_user");
+            String password = System.getProperty("bench.db.password", "taskflow_pass");
+            // Esquema das migrações, igual ao de produção (índices incluídos)
+            Flyway.configure().dataSource(url, username, password).cleanDisabled(false).load().clean();
+            properties.put("spring.datasource.url", url);
+            properties.put("spring.datasource.driver-class-name", "org.postgresql.Driver");
+            properties.put("spring.datasource.username", username);
+            properties.put("spring.datasource.password", password);
+            properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
+            properties.put("spring.jpa.hibernate.ddl-auto", "validate");
+        } else {
+            properties.put("spring.datasource.url", "jdbc:h2:mem:taskflow_bench;DB_CLOSE_DELAY=-1");
+            properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+            properties.put("spring.datasource.username", "sa");
+            properties.put("spring.datasource.password", "");
+            properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+            properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+            properties.put("spring.flyway.enabled", "false");
+        }
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.properties.hibernate.format_sql", "false");
+        properties.put("spring.devtools.restart.enabled", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.taskflow", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.putAll(overrides);
+
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(TaskFlowApiApplication.class)
+                .initializers(initializers)
+                .logStartupInfo(false)
+                .run(args);
+    }
+}
@@ -0,0 +1,87 @@
+// benchmarks/src/main/java/com/taskflow/benchmarks/EndpointLatencies.java
+package com.taskflow.benchmarks;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências (HdrHistogram, microssegundos, 3 dígitos significativos) e erros por endpoint de uma
+ * etapa do {@link LoadTest}. As linhas do relatório saem em ordem de endpoint, para que o TSV de
+ * duas execuções possa ser comparado com {@code diff}.
+ */
+final class EndpointLatencies {
+
+    static final String HEADER = "rate\tendpoint\tcount\trps\tp50_ms\tp90_ms\tp99_ms\tp999_ms\tmax_ms\terrors\trejected_503";
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long startNanos, long endNanos, int status) {
+        Endpoint target = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos), HIGHEST_TRACKABLE_MICROS);
+        target.histogram.recordValue(Math.max(micros, 0));
+        if (status == 503) {
+            target.rejected.increment();
+        } else if (status < 200 || status >= 400) {
+            target.errors.increment();
+        }
+    }
+
+    // Sem resposta (conexão recusada, tempo esgotado): conta só como erro
+    void recordFailure(String endpoint) {
+        endpoints.computeIfAbsent(endpoint, name -> new Endpoint()).errors.increment();
+    }
+
+    /** Uma linha por endpoint; {@code seconds} é a duração medida da etapa. */
+    List<String> rows(double rate, double seconds) {
+        Map<String, Endpoint> sorted = new TreeMap<>(endpoints);
+        return sorted.entrySet().stream().map(entry -> {
+            Histogram histogram = entry.getValue().histogram;
+            long count = histogram.getTotalCount();
+            return String.format(Locale.ROOT, "%s\t%s\t%d\t%.1f\t%.2f\t%.2f\t%.2f\t%.2f\t%.2f\t%d\t%d",
+                format(rate), entry.getKey(), count, count / seconds,
+                millis(histogram, 50.0), millis(histogram, 90.0), millis(histogram, 99.0), millis(histogram, 99.9),
+                histogram.getMaxValue() / 1000.0,
+                entry.getValue().errors.sum(), entry.getValue().rejected.sum());
+        }).toList();
+    }
+
+    /** Distribuição completa de cada endpoint, no formato .hgrm (HdrHistogram Plotter). */
+    void writeDistributions(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            String file = entry.getKey().replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm";
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(file)), false, "UTF-8")) {
+                // Valores em ms no arquivo (registrados em µs)
+                entry.getValue().histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    static String format(double rate) {
+        return rate == Math.rint(rate) ? Long.toString((long) rate) : Double.toString(rate);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static final class Endpoint {
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+    }
+}
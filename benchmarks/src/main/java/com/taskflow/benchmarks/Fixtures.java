@@ -0,0 +1,112 @@
+// benchmarks/src/main/java/com/taskflow/benchmarks/Fixtures.java
+package com.taskflow.benchmarks;
+
+import com.taskflow.api.entity.Category;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Dados sintéticos determinísticos (semente fixa) compartilhados pelos benchmarks.
+ */
+public final class Fixtures {
+
+    public static final String JWT_SECRET =
+            "benchSecretKey1234567890abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    public static final long JWT_EXPIRATION = 86_400_000L;
+
+    private static final String[] WORDS = {
+        "relatório", "reunião", "cliente", "deploy", "revisar", "orçamento", "backend",
+        "frontend", "planejamento", "contrato", "fatura", "sprint", "documentação", "teste"
+    };
+
+    private static final Task.Status[] STATUSES = Task.Status.values();
+    private static final Task.Priority[] PRIORITIES = Task.Priority.values();
+
+    private Fixtures() {}
+
+    public static User user(int index) {
+        User user = new User("Usuário " + index, "bench" + index + "@taskflow.dev", "$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchm");
+        user.setEmailVerified(true);
+        return user;
+    }
+
+    public static List<Category> categories() {
+        List<Category> categories = new ArrayList<>();
+        categories.add(new Category("Trabalho", "#3B82F6", "briefcase"));
+        categories.add(new Category("Pessoal", "#10B981", "user"));
+        categories.add(new Category("Estudos", "#F59E0B", "book"));
+        categories.add(new Category("Saúde", "#EF4444", "heart"));
+        categories.add(new Category("Finanças", "#8B5CF6", "wallet"));
+        return categories;
+    }
+
+    /**
+     * Gera {@code count} tarefas para o usuário. Cerca de um quarto tem prazo no passado,
+     * de forma que as consultas de tarefas vencidas tenham trabalho real a fazer.
+     */
+    public static List<Task> tasks(User user, List<Category> categories, int count, long seed) {
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task(title(random, i), description(random), user);
+            task.setPriority(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+            task.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            if (!categories.isEmpty() && random.nextInt(4) != 0) {
+                task.setCategory(categories.get(random.nextInt(categories.size())));
+            }
+            if (random.nextBoolean()) {
+                task.setDueDate(now.plusHours(random.nextInt(24 * 60) - 24 * 15L));
+            }
+            task.setCreatedAt(now.minusMinutes(count - i));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /** Igual a {@link #tasks}, mas com ids atribuídos para uso fora do banco. */
+    public static List<Task> detachedTasks(int count, long seed) {
+        User user = user(0);
+        user.setId(UUID.randomUUID());
+        List<Category> categories = categories();
+        categories.forEach(category -> category.setId(UUID.randomUUID()));
+        List<Task> tasks = tasks(user, categories, count, seed);
+        tasks.forEach(task -> task.setId(UUID.randomUUID()));
+        return tasks;
+    }
+
+    public static void inject(Object target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException("Campo inexistente: " + fieldName);
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+    static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    static String title(Random random, int index) {
+        return WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " #" + index;
+    }
+
+    static String description(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int words = 8 + random.nextInt(24);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
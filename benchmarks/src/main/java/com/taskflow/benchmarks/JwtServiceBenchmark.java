@@ -0,0 +1,89 @@
+// benchmarks/src/main/java/com/taskflow/benchmarks/JwtServiceBenchmark.java
+package com.taskflow.benchmarks;
+
+import com.taskflow.api.entity.User;
+import com.taskflow.api.security.JwtService;
+import com.taskflow.api.security.VerifiedToken;
+import com.taskflow.api.security.VerifiedTokenCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por requisição do JWT: emissão no login e as chamadas feitas pelo
+ * JwtAuthenticationFilter a cada requisição autenticada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private JwtService uncachedJwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtService = newJwtService(new VerifiedTokenCache(10_000));
+        uncachedJwtService = newJwtService(new VerifiedTokenCache(0));
+
+        user = Fixtures.user(1);
+        user.setId(UUID.randomUUID());
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    /** O que o filtro faz hoje por requisição: extractUsername seguido de isTokenValid. */
+    @Benchmark
+    public boolean filterPath() {
+        String username = jwtService.extractUsername(token);
+        return username != null && jwtService.isTokenValid(token, user);
+    }
+
+    /** Caminho do filtro com token repetido: uma consulta ao cache, sem HMAC. */
+    @Benchmark
+    public boolean verifyCached() {
+        VerifiedToken verified = jwtService.verify(token);
+        return jwtService.isTokenValid(verified, user);
+    }
+
+    /** Caminho do filtro sem cache: um único parse + HMAC por requisição. */
+    @Benchmark
+    public boolean verifyUncached() {
+        VerifiedToken verified = uncachedJwtService.verify(token);
+        return uncachedJwtService.isTokenValid(verified, user);
+    }
+
+    /** Caminho completo do filtro com claims de principal: verificação + montagem do User, sem banco. */
+    @Benchmark
+    public User principalFromClaims() {
+        return jwtService.toPrincipal(jwtService.verify(token));
+    }
+
+    private static JwtService newJwtService(VerifiedTokenCache cache) {
+        JwtService service = new JwtService();
+        Fixtures.inject(service, "secret", Fixtures.JWT_SECRET);
+        Fixtures.inject(service, "expiration", Fixtures.JWT_EXPIRATION);
+        Fixtures.inject(service, "tokenCache", cache);
+        return service;
+    }
+}
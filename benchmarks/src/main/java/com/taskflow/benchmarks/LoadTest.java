@@ -0,0 +1,399 @@
+// benchmarks/src/main/java/com/taskflow/benchmarks/LoadTest.java
+package com.taskflow.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Teste de carga em modelo aberto contra a API real, com os fluxos do frontend
+ * ({@code frontend/lib/taskService.ts}). Sessões chegam como um processo de Poisson na taxa de cada
+ * etapa, independentemente das respostas (a fila aparece na latência em vez de frear a carga). Cada
+ * sessão: registro (novo usuário) ou login, ou o token já guardado; primeira página da lista;
+ * estatísticas; criação; troca de status com a versão lida; busca.
+ *
+ * <p>Sem {@code load.base-url} sobe a aplicação embarcada ({@link BenchmarkContext}: H2 em memória ou
+ * o PostgreSQL de {@code bench.db.url}) e semeia {@code load.users} usuários com {@code load.tasks}
+ * tarefas cada pela própria API. Latências por endpoint em HdrHistogram; a linha {@code session} mede
+ * da chegada planejada ao fim da sessão. Resultado em {@code target/loadtest/<load.label>.tsv}, com as
+ * distribuições completas em {@code target/loadtest/<load.label>/<taxa>/*.hgrm}.
+ *
+ * <pre>mvn -B package exec:exec@load-test -Dload.args="-Dload.rates=5,10,20 -Dload.label=main"</pre>
+ */
+public final class LoadTest {
+
+    private static final String PASSWORD = "loadtest123";
+    private static final String SESSION = "session";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int SEED_PARALLELISM = 4;
+    private static final int SEED_BULK_SIZE = 1_000;
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+
+    private final Settings settings;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Random random;
+    // Distingue os e-mails de execuções diferentes contra o mesmo banco (load.base-url)
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicInteger registered = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private List<Account> accounts = List.of();
+
+    private LoadTest(Settings settings, String baseUrl) {
+        this.settings = settings;
+        this.baseUrl = baseUrl;
+        this.random = new Random(settings.seed());
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Settings settings = Settings.fromSystemProperties();
+        String baseUrl = System.getProperty("load.base-url", "");
+        ConfigurableApplicationContext context = null;
+        if (baseUrl.isBlank()) {
+            context = BenchmarkContext.start(Map.of("logging.level.com.taskflow", "ERROR"));
+            Environment environment = context.getEnvironment();
+            baseUrl = "http://localhost:" + environment.getProperty("local.server.port")
+                + environment.getProperty("server.servlet.context-path", "");
+        }
+        try {
+            new LoadTest(settings, baseUrl).run();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    private void run() throws IOException, InterruptedException {
+        System.out.printf(Locale.ROOT, "Semeando %d usuário(s) × %d tarefa(s) em %s%n",
+            settings.users(), settings.tasksPerUser(), baseUrl);
+        accounts = seed();
+
+        if (settings.warmupSeconds() > 0) {
+            System.out.printf(Locale.ROOT, "Aquecimento: %s sessões/s por %d s%n",
+                EndpointLatencies.format(settings.rates().get(0)), settings.warmupSeconds());
+            runStep(settings.rates().get(0), settings.warmupSeconds(), new EndpointLatencies());
+        }
+
+        Path output = Path.of(settings.output());
+        List<String> lines = new ArrayList<>();
+        lines.add("# " + settings.describe() + " db=" + (BenchmarkContext.isPostgres() ? "postgresql" : "h2"));
+        lines.add(EndpointLatencies.HEADER);
+        for (double rate : settings.rates()) {
+            EndpointLatencies latencies = new EndpointLatencies();
+            long droppedBefore = dropped.get();
+            runStep(rate, settings.durationSeconds(), latencies);
+            List<String> rows = latencies.rows(rate, settings.durationSeconds());
+            rows.forEach(System.out::println);
+            lines.addAll(rows);
+            long droppedNow = dropped.get() - droppedBefore;
+            if (droppedNow > 0) {
+                // Gerador saturado (load.max-sessions): a taxa pedida não foi aplicada por inteiro
+                lines.add("# rate=" + EndpointLatencies.format(rate) + " dropped_sessions=" + droppedNow);
+            }
+            latencies.writeDistributions(output.resolve(settings.label()).resolve(EndpointLatencies.format(rate)));
+        }
+        Files.createDirectories(output);
+        Path report = output.resolve(settings.label() + ".tsv");
+        Files.write(report, lines, StandardCharsets.UTF_8);
+        System.out.println("Resultado: " + report.toAbsolutePath());
+    }
+
+    // Etapa de taxa fixa: chegadas com intervalos exponenciais, sem esperar as sessões anteriores
+    private void runStep(double rate, int seconds, EndpointLatencies latencies) throws InterruptedException {
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        long next = start;
+        while (true) {
+            next += (long) (-Math.log(1 - random.nextDouble()) / rate * 1_000_000_000L);
+            if (next >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = next - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Visit visit = nextVisit();
+            if (inFlight.get() >= settings.maxSessions()) {
+                dropped.incrementAndGet();
+                latencies.recordFailure(SESSION);
+                continue;
+            }
+            inFlight.incrementAndGet();
+            long intended = next;
+            session(visit, latencies).whenComplete((ignored, error) -> {
+                latencies.record(SESSION, intended, System.nanoTime(), error == null ? 200 : 599);
+                inFlight.decrementAndGet();
+            });
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DRAIN_TIMEOUT_SECONDS);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    // Sorteios feitos na thread de chegadas (semente fixa): a mesma sequência de sessões em toda execução
+    private Visit nextVisit() {
+        Account account = accounts.get(random.nextInt(accounts.size()));
+        double draw = random.nextDouble();
+        Entry entry = draw < settings.registerRatio() ? Entry.REGISTER
+            : draw < settings.registerRatio() + settings.loginRatio() ? Entry.LOGIN
+            : Entry.TOKEN;
+        long contentSeed = random.nextLong();
+        return new Visit(account, entry, contentSeed);
+    }
+
+    private CompletableFuture<Void> session(Visit visit, EndpointLatencies latencies) {
+        Random content = new Random(visit.contentSeed());
+        CompletableFuture<String> token = switch (visit.entry()) {
+            case REGISTER -> {
+                String email = "load-" + runId + "-new" + registered.incrementAndGet() + "@taskflow.local";
+                yield call(latencies, "POST /auth/register", post("/auth/register", credentials(email, true), null))
+                    .thenApply(body -> body.path("token").asText());
+            }
+            case LOGIN -> call(latencies, "POST /auth/login", post("/auth/login", credentials(visit.account().email, false), null))
+                .thenApply(body -> {
+                    visit.account().token = body.path("token").asText();
+                    return visit.account().token;
+                });
+            case TOKEN -> CompletableFuture.completedFuture(visit.account().token);
+        };
+        String title = Fixtures.title(content, content.nextInt(1_000_000));
+        String description = Fixtures.description(content);
+        String query = Fixtures.word(content);
+        return token
+            .thenCompose(bearer -> call(latencies, "GET /tasks", get("/tasks?page=0&size=20", bearer)).thenApply(ignored -> bearer))
+            .thenCompose(bearer -> call(latencies, "GET /tasks/stats", get("/tasks/stats", bearer)).thenApply(ignored -> bearer))
+            .thenCompose(bearer -> call(latencies, "POST /tasks", post("/tasks", task(title, description), bearer))
+                .thenCompose(created -> call(latencies, "PATCH /tasks/{id}/status",
+                    patch("/tasks/" + created.path("id").asText() + "/status?status=IN_PROGRESS&version="
+                        + created.path("version").asLong(), bearer)))
+                .thenApply(ignored -> bearer))
+            .thenCompose(bearer -> call(latencies, "GET /tasks/search",
+                get("/tasks/search?query=" + URLEncoder.encode(query, StandardCharsets.UTF_8) + "&page=0&size=20", bearer)))
+            .thenApply(ignored -> null);
+    }
+
+    // Resposta fora de 2xx interrompe a sessão (os passos seguintes dependem dela)
+    private CompletableFuture<JsonNode> call(EndpointLatencies latencies, String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+            .handle((response, error) -> {
+                if (error != null) {
+                    latencies.recordFailure(endpoint);
+                    throw new CompletionException(error);
+                }
+                latencies.record(endpoint, start, System.nanoTime(), response.statusCode());
+                if (response.statusCode() >= 300) {
+                    throw new CompletionException(new IllegalStateException(endpoint + " → " + response.statusCode()));
+                }
+                return parse(response.body());
+            });
+    }
+
+    private List<Account> seed() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(SEED_PARALLELISM);
+        try {
+            List<Future<Account>> pending = new ArrayList<>(settings.users());
+            for (int i = 0; i < settings.users(); i++) {
+                int index = i;
+                pending.add(pool.submit(() -> seedAccount(index)));
+            }
+            List<Account> seeded = new ArrayList<>(settings.users());
+            for (Future<Account> future : pending) {
+                seeded.add(future.get());
+            }
+            return seeded;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha ao semear a massa de carga", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Registro (ou login, se o e-mail já existir no banco) e tarefas via POST /tasks/bulk
+    private Account seedAccount(int index) throws IOException, InterruptedException {
+        Account account = new Account("load-seed" + index + "@taskflow.local");
+        HttpResponse<byte[]> response = client.send(post("/auth/register", credentials(account.email, true), null),
+            HttpResponse.BodyHandlers.ofByteArray());
+        boolean created = response.statusCode() < 300;
+        if (!created) {
+            response = client.send(post("/auth/login", credentials(account.email, false), null),
+                HttpResponse.BodyHandlers.ofByteArray());
+        }
+        check(response, "seed " + account.email);
+        account.token = parse(response.body()).path("token").asText();
+        if (!created) {
+            return account;
+        }
+
+        Random content = new Random(settings.seed() + index);
+        for (int from = 0; from < settings.tasksPerUser(); from += SEED_BULK_SIZE) {
+            ObjectNode body = mapper.createObjectNode();
+            ArrayNode operations = body.putArray("operations");
+            for (int i = from; i < Math.min(from + SEED_BULK_SIZE, settings.tasksPerUser()); i++) {
+                ObjectNode operation = operations.addObject();
+                operation.put("type", "CREATE");
+                operation.set("task", task(Fixtures.title(content, i), Fixtures.description(content)));
+            }
+            check(client.send(post("/tasks/bulk", body, account.token), HttpResponse.BodyHandlers.ofByteArray()),
+                "seed bulk " + account.email);
+        }
+        return account;
+    }
+
+    private ObjectNode credentials(String email, boolean withName) {
+        ObjectNode body = mapper.createObjectNode();
+        if (withName) {
+            body.put("name", "Carga");
+        }
+        body.put("email", email);
+        body.put("password", PASSWORD);
+        return body;
+    }
+
+    private ObjectNode task(String title, String description) {
+        ObjectNode body = mapper.createObjectNode();
+        body.put("title", title);
+        body.put("description", description);
+        body.put("priority", "MEDIUM");
+        body.put("status", "PENDING");
+        return body;
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, JsonNode body, String token) {
+        return request(path, token)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(write(body)))
+            .build();
+    }
+
+    private HttpRequest patch(String path, String token) {
+        return request(path, token).method("PATCH", HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private byte[] write(JsonNode body) {
+        try {
+            return mapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode parse(byte[] body) {
+        if (body.length == 0) {
+            return mapper.createObjectNode();
+        }
+        try {
+            return mapper.readTree(body);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static void check(HttpResponse<byte[]> response, String step) {
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(step + " → " + response.statusCode() + ": "
+                + new String(response.body(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private enum Entry { REGISTER, LOGIN, TOKEN }
+
+    private record Visit(Account account, Entry entry, long contentSeed) {}
+
+    private static final class Account {
+        private final String email;
+        private volatile String token;
+
+        private Account(String email) {
+            this.email = email;
+        }
+    }
+
+    private record Settings(List<Double> rates, int durationSeconds, int warmupSeconds, int users, int tasksPerUser,
+                            double loginRatio, double registerRatio, long seed, int maxSessions,
+                            String label, String output) {
+
+        static Settings fromSystemProperties() {
+            List<Double> rates = Arrays.stream(System.getProperty("load.rates", "5,10,20").split(","))
+                .map(String::trim)
+                .filter(rate -> !rate.isEmpty())
+                .map(Double::parseDouble)
+                .toList();
+            if (rates.isEmpty() || rates.stream().anyMatch(rate -> rate <= 0)) {
+                throw new IllegalArgumentException("load.rates: informe taxas positivas (sessões/s), ex.: 5,10,20");
+            }
+            return new Settings(
+                rates,
+                Integer.getInteger("load.duration", 60),
+                Integer.getInteger("load.warmup", 15),
+                Integer.getInteger("load.users", 100),
+                Integer.getInteger("load.tasks", 200),
+                Double.parseDouble(System.getProperty("load.login-ratio", "0.1")),
+                Double.parseDouble(System.getProperty("load.register-ratio", "0.02")),
+                Long.getLong("load.seed", 42L),
+                Integer.getInteger("load.max-sessions", 5_000),
+                System.getProperty("load.label", "current"),
+                System.getProperty("load.output", "target/loadtest"));
+        }
+
+        String describe() {
+            return String.format(Locale.ROOT,
+                "rates=%s duration=%ds warmup=%ds users=%d tasks=%d login-ratio=%s register-ratio=%s seed=%d",
+                rates.stream().map(EndpointLatencies::format).toList(), durationSeconds, warmupSeconds, users,
+                tasksPerUser, loginRatio, registerRatio, seed);
+        }
+    }
+}
@@ -0,0 +1,366 @@
+// benchmarks/src/main/java/com/taskflow/benchmarks/QueryPlanCheck.java
+package com.taskflow.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.entity.Category;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.TaskStatistics;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.CategoryRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.TaskStatisticsRepository;
+import com.taskflow.api.repository.UserRepository;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Regressão de planos de consulta: sobe a aplicação contra um PostgreSQL local com o esquema das
+ * migrações, semeia {@value #USERS} usuários com {@value #TASKS_PER_USER} tarefas cada, roda
+ * VACUUM ANALYZE e executa cada consulta declarada nos repositórios capturando o EXPLAIN do SQL
+ * gerado pelo Hibernate, com os mesmos parâmetros. Termina com código 1 se algum plano usar
+ * Seq Scan em {@code tasks}, {@code users} ou {@code task_statistics}, ou se um método novo de
+ * repositório não tiver entrada aqui. Os planos ficam em {@code target/query-plans.txt}.
+ *
+ * <pre>mvn -B package exec:exec@query-plans -Dbench.db.url=jdbc:postgresql://localhost:5432/taskflow_bench</pre>
+ */
+public final class QueryPlanCheck {
+
+    private static final int USERS = 1_000;
+    private static final int TASKS_PER_USER = 40;
+    private static final int SEED_BATCH = 1_000;
+
+    // categories é pequena e servida pelo CategoryCache: Seq Scan nela é o plano certo
+    private static final Set<String> CHECKED_TABLES = Set.of("tasks", "users", "task_statistics");
+
+    // Consultas que leem a tabela inteira de propósito
+    private static final Map<String, String> ALLOWED_SEQ_SCANS = Map.of(
+        "TaskStatisticsRepository.findAllUserIds", "varredura completa em lotes da checagem de consistência"
+    );
+
+    // Consultas dos jobs agendados: rodam sem usuário autenticado, logo sem o filtro de dono
+    private static final Set<String> UNSCOPED = Set.of(
+        "TaskRepository.findPendingDeadlines",
+        "TaskRepository.findUsersWithMissedDeadlines",
+        "TaskRepository.markOverdue",
+        "TaskRepository.countGroupedByUserAndStatus",
+        "TaskStatisticsRepository.findAllUserIds"
+    );
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+        TaskRepository.class, UserRepository.class, CategoryRepository.class, TaskStatisticsRepository.class);
+
+    private static final ThreadLocal<String> currentQuery = new ThreadLocal<>();
+    private static final List<Plan> plans = new ArrayList<>();
+
+    private QueryPlanCheck() {}
+
+    public static void main(String[] args) throws IOException {
+        if (!BenchmarkContext.isPostgres()) {
+            System.err.println("QueryPlanCheck exige -Dbench.db.url=jdbc:postgresql://...");
+            System.exit(2);
+        }
+
+        ConfigurableApplicationContext context = BenchmarkContext.start(Map.of(), explainingDataSource());
+        int failures;
+        try {
+            failures = run(context);
+        } finally {
+            context.close();
+        }
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    private static int run(ConfigurableApplicationContext context) throws IOException {
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        CategoryRepository categoryRepository = context.getBean(CategoryRepository.class);
+        TaskStatisticsRepository statisticsRepository = context.getBean(TaskStatisticsRepository.class);
+
+        // Massa: muitos usuários com poucas tarefas cada, como em produção
+        List<Category> categories = categoryRepository.saveAll(Fixtures.categories());
+        List<User> users = new ArrayList<>(USERS);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = userRepository.save(Fixtures.user(i));
+            users.add(user);
+            statisticsRepository.save(new TaskStatistics(user.getId()));
+            tasks.addAll(Fixtures.tasks(user, categories, TASKS_PER_USER, i));
+            if (tasks.size() >= SEED_BATCH) {
+                taskRepository.saveAll(tasks);
+                tasks.clear();
+            }
+        }
+        taskRepository.saveAll(tasks);
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transaction.executeWithoutResult(status -> {
+            for (int i = 0; i < 10; i++) {
+                userRepository.incrementTokenVersion(users.get(i * 7).getId());
+            }
+        });
+        context.getBean(JdbcTemplate.class).execute("VACUUM ANALYZE");
+
+        User user = users.get(USERS / 2);
+        List<Task> owned = taskRepository.findByUserOrderByCreatedAtDesc(user, PageRequest.of(0, TASKS_PER_USER)).getContent();
+        Task task = owned.get(owned.size() / 2);
+        List<UUID> ids = owned.stream().limit(10).map(Task::getId).toList();
+        List<UUID> userIds = users.stream().limit(20).map(User::getId).toList();
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest page = PageRequest.of(0, 20);
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("TaskRepository.findByUserOrderByCreatedAtDesc", () -> taskRepository.findByUserOrderByCreatedAtDesc(user, page));
+        queries.put("TaskRepository.findByUserAndStatusOrderByCreatedAtDesc", () -> taskRepository.findByUserAndStatusOrderByCreatedAtDesc(user, Task.Status.PENDING));
+        queries.put("TaskRepository.findByUserAndPriorityOrderByCreatedAtDesc", () -> taskRepository.findByUserAndPriorityOrderByCreatedAtDesc(user, Task.Priority.HIGH));
+        queries.put("TaskRepository.findRowsByUser", () -> taskRepository.findRowsByUser(user, page));
+        queries.put("TaskRepository.findRowsByUserAndStatus", () -> taskRepository.findRowsByUserAndStatus(user, Task.Status.IN_PROGRESS));
+        queries.put("TaskRepository.findOverdueRows", () -> taskRepository.findOverdueRows(user));
+        queries.put("TaskRepository.findRowByIdAndUser", () -> taskRepository.findRowByIdAndUser(task.getId(), user));
+        queries.put("TaskRepository.findFirstByCursor", () -> taskRepository.findFirstByCursor(user, page));
+        queries.put("TaskRepository.findAfterCursor", () -> taskRepository.findAfterCursor(user, task.getCreatedAt(), task.getId(), page));
+        queries.put("TaskRepository.findBeforeCursor", () -> taskRepository.findBeforeCursor(user, task.getCreatedAt(), task.getId(), page));
+        queries.put("TaskRepository.findByUserAndCategoryIdOrderByCreatedAtDesc", () -> taskRepository.findByUserAndCategoryIdOrderByCreatedAtDesc(user, categories.get(0).getId()));
+        queries.put("TaskRepository.findOverdueTasks", () -> taskRepository.findOverdueTasks(user));
+        queries.put("TaskRepository.countByUser", () -> taskRepository.countByUser(user));
+        queries.put("TaskRepository.countByUserAndStatus", () -> taskRepository.countByUserAndStatus(user, Task.Status.COMPLETED));
+        queries.put("TaskRepository.countOverdueTasks", () -> taskRepository.countOverdueTasks(user));
+        queries.put("TaskRepository.findPendingDeadlines", () -> taskRepository.findPendingDeadlines(now.plusHours(1), PageRequest.of(0, 100_000)));
+        queries.put("TaskRepository.findUsersWithMissedDeadlines", () -> {
+            taskRepository.findUsersWithMissedDeadlines(now);
+            taskRepository.findUsersWithMissedDeadlines(ids, now);
+        });
+        queries.put("TaskRepository.markOverdue", () -> {
+            taskRepository.markOverdue(now);
+            taskRepository.markOverdue(ids, now);
+        });
+        queries.put("TaskRepository.countGroupedByStatus", () -> taskRepository.countGroupedByStatus(user.getId()));
+        queries.put("TaskRepository.countGroupedByUserAndStatus", () -> taskRepository.countGroupedByUserAndStatus(userIds));
+        queries.put("TaskRepository.findByUserAndCreatedAtBetween", () -> taskRepository.findByUserAndCreatedAtBetween(user, now.minusDays(1), now));
+        queries.put("TaskRepository.streamAllByUser", () -> {
+            try (Stream<Task> stream = taskRepository.streamAllByUser(user)) {
+                stream.limit(1).count();
+            }
+        });
+        queries.put("TaskRepository.findListVersion", () -> taskRepository.findListVersion(user));
+        queries.put("TaskRepository.findVersion", () -> taskRepository.findVersion(task.getId(), user));
+        queries.put("TaskRepository.findOwnedById", () -> taskRepository.findOwnedById(task.getId(), user));
+        queries.put("TaskRepository.existsByIdAndUser", () -> taskRepository.existsByIdAndUser(task.getId(), user));
+        queries.put("TaskRepository.lockAllByIdInAndUser", () -> taskRepository.lockAllByIdInAndUser(ids, user));
+        queries.put("UserRepository.findByEmail", () -> userRepository.findByEmail(user.getEmail()));
+        queries.put("UserRepository.existsByEmail", () -> userRepository.existsByEmail(user.getEmail()));
+        queries.put("UserRepository.countAdmins", () -> userRepository.countAdmins());
+        queries.put("UserRepository.findBumpedTokenVersions", () -> userRepository.findBumpedTokenVersions());
+        queries.put("UserRepository.incrementTokenVersion", () -> userRepository.incrementTokenVersion(user.getId()));
+        queries.put("UserRepository.findTokenVersionById", () -> userRepository.findTokenVersionById(user.getId()));
+        queries.put("CategoryRepository.findByName", () -> categoryRepository.findByName(categories.get(0).getName()));
+        queries.put("CategoryRepository.existsByName", () -> categoryRepository.existsByName(categories.get(0).getName()));
+        queries.put("TaskStatisticsRepository.applyDelta", () -> statisticsRepository.applyDelta(user.getId(), 1, 1, 0, 0, 0, now));
+        queries.put("TaskStatisticsRepository.insertFromTasksOnConflictDoNothing", () -> statisticsRepository.insertFromTasksOnConflictDoNothing(user.getId(), now));
+        queries.put("TaskStatisticsRepository.insertFromTasksIfAbsent", () -> statisticsRepository.insertFromTasksIfAbsent(user.getId(), now));
+        queries.put("TaskStatisticsRepository.findByIdForUpdate", () -> statisticsRepository.findByIdForUpdate(user.getId()));
+        queries.put("TaskStatisticsRepository.findAllUserIds", () -> statisticsRepository.findAllUserIds(PageRequest.of(0, 500)));
+        queries.put("TaskStatisticsRepository.findVersion", () -> statisticsRepository.findVersion(user.getId()));
+
+        // Escritas incluídas: tudo roda em transação desfeita ao final, a massa não muda
+        // Consultas por usuário rodam autenticadas, como nas requisições (filtro de dono ativo)
+        queries.forEach((name, query) -> {
+            if (!UNSCOPED.contains(name)) {
+                BenchmarkContext.authenticate(user);
+            }
+            try {
+                transaction.executeWithoutResult(status -> {
+                    currentQuery.set(name);
+                    try {
+                        query.run();
+                    } finally {
+                        currentQuery.remove();
+                        status.setRollbackOnly();
+                    }
+                });
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        });
+
+        return report(queries.keySet());
+    }
+
+    private static int report(Set<String> checked) throws IOException {
+        List<String> failures = new ArrayList<>();
+        List<String> lines = new ArrayList<>();
+
+        for (Class<?> repository : REPOSITORIES) {
+            Arrays.stream(repository.getDeclaredMethods())
+                .filter(method -> Modifier.isAbstract(method.getModifiers()))
+                .map(method -> repository.getSimpleName() + "." + method.getName())
+                .filter(name -> !checked.contains(name))
+                .distinct()
+                .forEach(name -> failures.add(name + ": consulta sem verificação de plano (inclua em QueryPlanCheck)"));
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Set<String> explained = new TreeSet<>();
+        for (Plan plan : plans) {
+            explained.add(plan.query());
+            List<String> nodes = new ArrayList<>();
+            collect(objectMapper.readTree(plan.json()).get(0).get("Plan"), nodes, plan, failures);
+            lines.add(plan.query() + "\t" + String.join(" → ", nodes));
+        }
+        for (String name : checked) {
+            if (!explained.contains(name)) {
+                failures.add(name + ": nenhum SQL capturado");
+            }
+        }
+
+        Path output = Path.of("target", "query-plans.txt");
+        Files.createDirectories(output.getParent());
+        Files.write(output, lines);
+        lines.forEach(System.out::println);
+
+        if (failures.isEmpty()) {
+            System.out.printf("%nPlanos OK: %d consultas, %d comandos SQL (%s)%n", checked.size(), plans.size(), output);
+        } else {
+            System.err.printf("%n%d problema(s) nos planos:%n", failures.size());
+            failures.forEach(failure -> System.err.println("  " + failure));
+        }
+        return failures.size();
+    }
+
+    private static void collect(JsonNode node, List<String> nodes, Plan plan, List<String> failures) {
+        String type = node.path("Node Type").asText();
+        String relation = node.path("Relation Name").asText(null);
+        String index = node.path("Index Name").asText(null);
+        if (relation != null) {
+            nodes.add(type + (index != null ? " using " + index : "") + " on " + relation);
+        }
+        if ("Seq Scan".equals(type) && CHECKED_TABLES.contains(relation) && !ALLOWED_SEQ_SCANS.containsKey(plan.query())) {
+            failures.add(plan.query() + ": Seq Scan em " + relation + "\n      " + plan.sql());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, nodes, plan, failures);
+        }
+    }
+
+    // Envolve o DataSource antes do EntityManagerFactory: todo SQL do Hibernate passa pelo proxy
+    private static ApplicationContextInitializer<ConfigurableApplicationContext> explainingDataSource() {
+        return context -> context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof ExplainingDataSource)
+                    ? new ExplainingDataSource(dataSource)
+                    : bean;
+            }
+        });
+    }
+
+    private record Plan(String query, String sql, String json) {}
+
+    private record ParameterCall(Method method, Object[] args) {}
+
+    /**
+     * Antes de executar um SELECT/INSERT/UPDATE/DELETE preparado durante uma consulta verificada, roda
+     * {@code EXPLAIN (FORMAT JSON)} do mesmo SQL na mesma conexão, reaplicando os parâmetros.
+     */
+    private static final class ExplainingDataSource extends DelegatingDataSource {
+
+        ExplainingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return proxy(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return proxy(super.getConnection(username, password));
+        }
+
+        private static Connection proxy(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(QueryPlanCheck.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if ("prepareStatement".equals(method.getName()) && currentQuery.get() != null
+                            && args[0] instanceof String sql && isExplainable(sql)) {
+                        return explaining(connection, (PreparedStatement) result, sql);
+                    }
+                    return result;
+                });
+        }
+
+        private static PreparedStatement explaining(Connection connection, PreparedStatement statement, String sql) {
+            List<ParameterCall> parameters = new ArrayList<>();
+            return (PreparedStatement) Proxy.newProxyInstance(QueryPlanCheck.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                        parameters.add(new ParameterCall(method, args));
+                    } else if ("clearParameters".equals(name)) {
+                        parameters.clear();
+                    } else if ((name.equals("executeQuery") || name.equals("executeUpdate") || name.equals("execute"))
+                            && args == null && currentQuery.get() != null) {
+                        explain(connection, sql, parameters);
+                    }
+                    return invoke(statement, method, args);
+                });
+        }
+
+        private static void explain(Connection connection, String sql, List<ParameterCall> parameters) throws Throwable {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + sql)) {
+                for (ParameterCall parameter : parameters) {
+                    invoke(explain, parameter.method(), parameter.args());
+                }
+                try (ResultSet resultSet = explain.executeQuery()) {
+                    resultSet.next();
+                    plans.add(new Plan(currentQuery.get(), sql, resultSet.getString(1)));
+                }
+            }
+        }
+
+        private static boolean isExplainable(String sql) {
+            String start = sql.stripLeading().toLowerCase(Locale.ROOT);
+            return start.startsWith("select") || start.startsWith("with")
+                || start.startsWith("insert") || start.startsWith("update") || start.startsWith("delete");
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
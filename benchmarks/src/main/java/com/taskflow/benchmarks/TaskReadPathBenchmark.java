@@ -0,0 +1,87 @@
+// benchmarks/src/main/java/com/taskflow/benchmarks/TaskReadPathBenchmark.java
+package com.taskflow.benchmarks;
+
+import com.taskflow.api.dto.task.TaskResponse;
+import com.taskflow.api.entity.Category;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.CategoryRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.service.CategoryCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho de leitura das listagens: entidades gerenciadas + {@code TaskResponse.fromEntity}
+ * contra a projeção em {@code TaskRow} com a categoria resolvida pelo {@code CategoryCache}.
+ * Para medir alocação por operação, rode com {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskReadPathBenchmark {
+
+    private static final int TASK_COUNT = 5_000;
+    private static final int SEED_BATCH = 1_000;
+
+    @Param({"20", "500", "5000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private CategoryCache categoryCache;
+    private TransactionTemplate readOnly;
+    private User user;
+    private PageRequest page;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkContext.start();
+        taskRepository = context.getBean(TaskRepository.class);
+        categoryCache = context.getBean(CategoryCache.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        CategoryRepository categoryRepository = context.getBean(CategoryRepository.class);
+
+        user = userRepository.save(Fixtures.user(1));
+        List<Category> categories = categoryRepository.saveAll(Fixtures.categories());
+        List<Task> tasks = Fixtures.tasks(user, categories, TASK_COUNT, 42L);
+        for (int from = 0; from < tasks.size(); from += SEED_BATCH) {
+            taskRepository.saveAll(tasks.subList(from, Math.min(from + SEED_BATCH, tasks.size())));
+        }
+
+        // Mesmo escopo transacional nos dois caminhos: a diferença medida é só entidade vs. projeção
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        page = PageRequest.of(0, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TaskResponse> entityPath() {
+        return readOnly.execute(status ->
+            taskRepository.findByUserOrderByCreatedAtDesc(user, page).map(TaskResponse::fromEntity));
+    }
+
+    @Benchmark
+    public Page<TaskResponse> projectionPath() {
+        return readOnly.execute(status ->
+            taskRepository.findRowsByUser(user, page)
+                .map(row -> row.toResponse(categoryCache.get(row.categoryId()))));
+    }
+}
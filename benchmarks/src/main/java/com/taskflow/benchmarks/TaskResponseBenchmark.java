@@ -0,0 +1,99 @@
+// benchmarks/src/main/java/com/taskflow/benchmarks/TaskResponseBenchmark.java
+package com.taskflow.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskflow.api.config.JsonConfig;
+import com.taskflow.api.dto.task.TaskResponse;
+import com.taskflow.api.entity.Task;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Conversão entidade → DTO e serialização Jackson de uma página, como feito em GET /tasks:
+ * o Jackson padrão (reflexão) contra os serializadores registrados em {@code JsonConfig}
+ * (TaskResponse escrito campo a campo e categoria pré-codificada; o envelope do PageImpl é o mesmo
+ * nos dois), e o custo do gzip sobre a página. Alocação por operação: {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskResponseBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private List<Task> tasks;
+    private Page<TaskResponse> page;
+    private ObjectMapper objectMapper;
+    private ObjectMapper optimizedMapper;
+
+    @Setup
+    public void setup() {
+        tasks = Fixtures.detachedTasks(pageSize, 42L);
+        page = new PageImpl<>(tasks.stream().map(TaskResponse::fromEntity).toList(),
+                PageRequest.of(0, pageSize), pageSize * 10L);
+        // Mesma configuração aplicada pelo JacksonAutoConfiguration do Spring Boot
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        // Idem, com o módulo registrado pela aplicação
+        optimizedMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(JsonConfig.module())
+                .build();
+    }
+
+    @Benchmark
+    public List<TaskResponse> fromEntity() {
+        return tasks.stream().map(TaskResponse::fromEntity).toList();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializePageOptimized() throws JsonProcessingException {
+        return optimizedMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializePageOptimizedGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(pageSize * 120);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            optimizedMapper.writeValue(gzip, page);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] fromEntityAndSerialize() throws JsonProcessingException {
+        Page<TaskResponse> responses = new PageImpl<>(
+                tasks.stream().map(TaskResponse::fromEntity).toList(),
+                PageRequest.of(0, pageSize), pageSize * 10L);
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] fromEntityAndSerializeOptimized() throws JsonProcessingException {
+        Page<TaskResponse> responses = new PageImpl<>(
+                tasks.stream().map(TaskResponse::fromEntity).toList(),
+                PageRequest.of(0, pageSize), pageSize * 10L);
+        return optimizedMapper.writeValueAsBytes(responses);
+    }
+}
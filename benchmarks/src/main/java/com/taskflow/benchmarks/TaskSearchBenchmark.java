@@ -0,0 +1,113 @@
+// benchmarks/src/main/java/com/taskflow/benchmarks/TaskSearchBenchmark.java
+package com.taskflow.benchmarks;
+
+import com.taskflow.api.dto.task.TaskSearchResult;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência de GET /tasks/search com uma tabela tasks de {@code totalTasks} linhas distribuídas
+ * entre {@code users} usuários. Rode com {@code -Dbench.db.url=jdbc:postgresql://...} (via
+ * {@code -Djmh.args="-jvmArgs -Dbench.db.url=..."}) para medir os índices GIN; sem a propriedade
+ * usa o caminho LIKE do H2 como referência.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskSearchBenchmark {
+
+    private static final int INSERT_BATCH = 5_000;
+    private static final Task.Status[] STATUSES = Task.Status.values();
+    private static final Task.Priority[] PRIORITIES = Task.Priority.values();
+
+    @Param({"1000000"})
+    private int totalTasks;
+
+    @Param({"100"})
+    private int users;
+
+    @Param({"relatório", "deploy sprint", "inexistente"})
+    private String query;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private User user;
+    private PageRequest firstPage;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkContext.start();
+        taskService = context.getBean(TaskService.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        List<User> owners = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            owners.add(userRepository.save(Fixtures.user(i)));
+        }
+        user = owners.get(0);
+        seed(jdbcTemplate, owners);
+        if (BenchmarkContext.isPostgres()) {
+            jdbcTemplate.execute("ANALYZE tasks");
+        }
+        firstPage = PageRequest.of(0, 20);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TaskSearchResult> searchFirstPage() {
+        return taskService.searchTasks(query, user, firstPage);
+    }
+
+    // Inserção direta por JDBC em lotes: semear 1M de linhas pelo JPA levaria minutos
+    private void seed(JdbcTemplate jdbcTemplate, List<User> owners) {
+        Random random = new Random(42L);
+        LocalDateTime now = LocalDateTime.now();
+        String sql = "INSERT INTO tasks (id, user_id, title, description, priority, status, due_date, created_at, updated_at) " +
+                     "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < totalTasks; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(totalTasks - i));
+            batch.add(new Object[] {
+                UUID.randomUUID(),
+                owners.get(i % owners.size()).getId(),
+                Fixtures.title(random, i),
+                Fixtures.description(random),
+                PRIORITIES[random.nextInt(PRIORITIES.length)].name(),
+                STATUSES[random.nextInt(STATUSES.length)].name(),
+                random.nextBoolean() ? Timestamp.valueOf(now.plusHours(random.nextInt(24 * 60) - 24 * 15L)) : null,
+                createdAt,
+                createdAt
+            });
+            if (batch.size() == INSERT_BATCH) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+}
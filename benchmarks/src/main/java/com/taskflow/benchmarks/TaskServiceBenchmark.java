@@ -0,0 +1,144 @@
+// benchmarks/src/main/java/com/taskflow/benchmarks/TaskServiceBenchmark.java
+package com.taskflow.benchmarks;
+
+import com.taskflow.api.dto.common.CursorPage;
+import com.taskflow.api.dto.task.TaskRequest;
+import com.taskflow.api.dto.task.TaskResponse;
+import com.taskflow.api.dto.task.TaskSearchResult;
+import com.taskflow.api.entity.Category;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.CategoryRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métodos do TaskService contra um H2 embarcado semeado com um usuário com
+ * {@code taskCount} tarefas. Inclui o custo de transação, consulta e mapeamento; o usuário
+ * fica autenticado, então as consultas de tarefas passam pelo filtro de dono como nas requisições.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private static final int SEED_BATCH = 1_000;
+
+    @Param({"1000", "10000"})
+    private int taskCount;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private User user;
+    private PageRequest firstPage;
+    private PageRequest deepPage;
+    private String deepCursor;
+    private UUID taskId;
+    private TaskRequest edit;
+    private boolean completed;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkContext.start();
+        taskService = context.getBean(TaskService.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        CategoryRepository categoryRepository = context.getBean(CategoryRepository.class);
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+
+        user = userRepository.save(Fixtures.user(1));
+        List<Category> categories = categoryRepository.saveAll(Fixtures.categories());
+        List<Task> tasks = Fixtures.tasks(user, categories, taskCount, 42L);
+        for (int from = 0; from < tasks.size(); from += SEED_BATCH) {
+            taskRepository.saveAll(tasks.subList(from, Math.min(from + SEED_BATCH, tasks.size())));
+        }
+        BenchmarkContext.authenticate(user);
+
+        Task target = tasks.get(tasks.size() / 2);
+        taskId = target.getId();
+        edit = new TaskRequest(target.getTitle(), target.getDescription(), null,
+                Task.Priority.HIGH, Task.Status.IN_PROGRESS, target.getDueDate(), null);
+
+        firstPage = PageRequest.of(0, 20);
+        deepPage = PageRequest.of(taskCount / 20 - 1, 20);
+
+        // Percorre a listagem por cursor até a penúltima página para medir o custo no fim da lista
+        CursorPage<TaskResponse> page = taskService.getTasksByCursor(user, "", 20, false);
+        String next = page.nextCursor();
+        while (next != null) {
+            deepCursor = next;
+            next = taskService.getTasksByCursor(user, next, 20, false).nextCursor();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TaskResponse> listFirstPage() {
+        return taskService.getAllTasksByUser(user, firstPage);
+    }
+
+    @Benchmark
+    public Page<TaskResponse> listLastPage() {
+        return taskService.getAllTasksByUser(user, deepPage);
+    }
+
+    @Benchmark
+    public CursorPage<TaskResponse> cursorFirstPage() {
+        return taskService.getTasksByCursor(user, "", 20, false);
+    }
+
+    @Benchmark
+    public CursorPage<TaskResponse> cursorLastPage() {
+        return taskService.getTasksByCursor(user, deepCursor, 20, false);
+    }
+
+    @Benchmark
+    public Map<String, Object> statistics() {
+        return taskService.getTaskStatistics(user);
+    }
+
+    @Benchmark
+    public Page<TaskSearchResult> search() {
+        return taskService.searchTasks("relatório", user, firstPage);
+    }
+
+    @Benchmark
+    public List<TaskResponse> overdue() {
+        return taskService.getOverdueTasks(user);
+    }
+
+    // Caminhos quentes por id: busca escopada pelo dono (findOwnedById) e escrita
+
+    @Benchmark
+    public TaskResponse getById() {
+        return taskService.getTaskByIdAndUser(taskId, user);
+    }
+
+    @Benchmark
+    public TaskResponse update() {
+        return taskService.updateTask(taskId, edit, user);
+    }
+
+    @Benchmark
+    public TaskResponse updateStatus() {
+        completed = !completed;
+        return taskService.updateTaskStatus(taskId, completed ? Task.Status.COMPLETED : Task.Status.PENDING, null, user);
+    }
+}
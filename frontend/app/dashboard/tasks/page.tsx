@@ -4,7 +4,8 @@
 import { useState, useEffect } from 'react';
 import { Plus, Search, MoreVertical, Clock, CheckCircle, Edit, Trash2, AlertCircle } from 'lucide-react';
 import { taskService } from '@/lib/taskService';
-import { Task, TaskRequest } from '@/types/task';
+import { subscribeTaskEvents } from '@/lib/taskEvents';
+import { Task, TaskEvent, TaskRequest, TaskSearchResult } from '@/types/task';
 import toast from 'react-hot-toast';
 
 export default function TasksPage() {
@@ -19,6 +20,32 @@ export default function TasksPage() {
     fetchTasks();
   }, []);
 
+  // Alterações feitas em outras abas/dispositivos chegam por SSE, sem recarregar a lista
+  useEffect(() => {
+    return subscribeTaskEvents((event: TaskEvent) => {
+      switch (event.type) {
+        case 'CREATED':
+        case 'UPDATED':
+          if (event.task) upsertTask(event.task);
+          break;
+        case 'DELETED':
+          setTasks(current => current.filter(task => task.id !== event.taskId));
+          break;
+        case 'BULK':
+        case 'RESYNC':
+          fetchTasks();
+          break;
+      }
+    });
+  }, []);
+
+  // A própria aba também recebe o evento da sua alteração: inserir/atualizar sem duplicar
+  const upsertTask = (changed: Task) => {
+    setTasks(current => current.some(task => task.id === changed.id)
+      ? current.map(task => (task.id === changed.id ? changed : task))
+      : [changed, ...current]);
+  };
+
   const fetchTasks = async () => {
     try {
       const response = await taskService.getAllTasks();
@@ -40,7 +67,7 @@ export default function TasksPage() {
         priority: 'HIGH',
         status: 'PENDING',
       });
-      setTasks([newTask, ...tasks]);
+      upsertTask(newTask);
       toast.success('Tarefa criada com sucesso!');
     } catch (error) {
       toast.error('Erro ao criar tarefa');
@@ -52,7 +79,7 @@ export default function TasksPage() {
 
     try {
       await taskService.deleteTask(taskId);
-      setTasks(tasks.filter(task => task.id !== taskId));
+      setTasks(current => current.filter(task => task.id !== taskId));
       toast.success('Tarefa excluída com sucesso!');
     } catch (error) {
       toast.error('Erro ao excluir tarefa');
@@ -60,13 +87,17 @@ export default function TasksPage() {
   };
 
   const handleStatusUpdate = async (taskId: string, newStatus: string) => {
+    const version = tasks.find(task => task.id === taskId)?.version;
     try {
-      const updatedTask = await taskService.updateTaskStatus(taskId, newStatus);
-      setTasks(tasks.map(task => 
-        task.id === taskId ? updatedTask : task
-      ));
+      const updatedTask = await taskService.updateTaskStatus(taskId, newStatus, version);
+      upsertTask(updatedTask);
       toast.success('Status atualizado!');
-    } catch (error) {
+    } catch (error: any) {
+      if (error.response?.status === 409) {
+        toast.error('A tarefa foi alterada em outro lugar. Lista atualizada.');
+        fetchTasks();
+        return;
+      }
       toast.error('Erro ao atualizar status');
     }
   };
@@ -81,7 +112,7 @@ export default function TasksPage() {
     try {
       setLoading(true);
       const results = await taskService.searchTasks(searchQuery);
-      setTasks(results);
+      setTasks((results.content || []).map((result: TaskSearchResult) => result.task));
     } catch (error) {
       toast.error('Erro ao buscar tarefas');
     } finally {
@@ -57,7 +57,7 @@ export default function TaskModal({ isOpen, onClose, onSave, task }: TaskModalPr
       
       if (task) {
         // Editando tarefa existente
-        savedTask = await taskService.updateTask(task.id, formData);
+        savedTask = await taskService.updateTask(task.id, { ...formData, version: task.version });
       } else {
         // Criando nova tarefa
         savedTask = await taskService.createTask(formData);
@@ -0,0 +1,67 @@
+// lib/taskEvents.ts
+import api from './api';
+import { TaskEvent } from '@/types/task';
+
+const MAX_RETRY_DELAY = 30000;
+
+// EventSource não envia o header Authorization: o stream SSE é lido via fetch.
+// Depois de uma reconexão o cliente recebe um RESYNC, pois eventos podem ter sido perdidos.
+export function subscribeTaskEvents(onEvent: (event: TaskEvent) => void): () => void {
+  const controller = new AbortController();
+  let retryDelay = 1000;
+  let connectedBefore = false;
+
+  const connect = async () => {
+    while (!controller.signal.aborted) {
+      try {
+        const token = localStorage.getItem('token');
+        const response = await fetch(`${api.defaults.baseURL}/tasks/events`, {
+          headers: {
+            Accept: 'text/event-stream',
+            ...(token ? { Authorization: `Bearer ${token}` } : {}),
+          },
+          signal: controller.signal,
+        });
+        if (response.status === 401) return;
+        if (!response.ok || !response.body) throw new Error(`HTTP ${response.status}`);
+
+        if (connectedBefore) onEvent({ type: 'RESYNC' });
+        connectedBefore = true;
+        retryDelay = 1000;
+        await readStream(response.body, onEvent);
+      } catch (error) {
+        if (controller.signal.aborted) return;
+      }
+      await new Promise((resolve) => setTimeout(resolve, retryDelay));
+      retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY);
+    }
+  };
+
+  connect();
+  return () => controller.abort();
+}
+
+async function readStream(body: ReadableStream<Uint8Array>, onEvent: (event: TaskEvent) => void) {
+  const reader = body.getReader();
+  const decoder = new TextDecoder();
+  let buffer = '';
+
+  for (;;) {
+    const { value, done } = await reader.read();
+    if (done) return;
+    buffer += decoder.decode(value, { stream: true });
+
+    // Eventos separados por linha em branco; comentários (": ping") são só heartbeat
+    let boundary;
+    while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+      const block = buffer.slice(0, boundary);
+      buffer = buffer.slice(boundary + 2);
+      const data = block
+        .split('\n')
+        .filter((line) => line.startsWith('data:'))
+        .map((line) => line.slice(5).trimStart())
+        .join('\n');
+      if (data) onEvent(JSON.parse(data) as TaskEvent);
+    }
+  }
+}
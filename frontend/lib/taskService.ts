@@ -1,6 +1,6 @@
 // lib/taskService.ts
 import api from './api';
-import { Task, TaskRequest, TaskStats } from '@/types/task';
+import { BulkTaskOperation, BulkTaskResponse, Task, TaskRequest, TaskStats } from '@/types/task';
 
 export const taskService = {
   // Buscar todas as tarefas
@@ -9,6 +9,14 @@ export const taskService = {
     return response.data;
   },
 
+  // Buscar tarefas por cursor (custo constante em qualquer profundidade da lista)
+  getTasksByCursor: async (cursor = '', size = 20, includeCount = false) => {
+    const response = await api.get(
+      `/tasks?cursor=${encodeURIComponent(cursor)}&size=${size}&includeCount=${includeCount}`
+    );
+    return response.data;
+  },
+
   // Buscar tarefa por ID
   getTaskById: async (id: string) => {
     const response = await api.get(`/tasks/${id}`);
@@ -32,18 +40,31 @@ export const taskService = {
     await api.delete(`/tasks/${id}`);
   },
 
-  // Atualizar status da tarefa
-  updateTaskStatus: async (id: string, status: string) => {
-    const response = await api.patch(`/tasks/${id}/status?status=${status}`);
+  // Atualizar status da tarefa (com a versão lida, alterações concorrentes voltam como 409)
+  updateTaskStatus: async (id: string, status: string, version?: number) => {
+    const versionParam = version !== undefined ? `&version=${version}` : '';
+    const response = await api.patch(`/tasks/${id}/status?status=${status}${versionParam}`);
+    return response.data;
+  },
+
+  // Operações em lote (criação, edição, status e exclusão em uma requisição)
+  bulk: async (operations: BulkTaskOperation[]): Promise<BulkTaskResponse> => {
+    const response = await api.post('/tasks/bulk', { operations });
     return response.data;
   },
 
-  // Buscar tarefas
-  searchTasks: async (query: string) => {
-    const response = await api.get(`/tasks/search?query=${encodeURIComponent(query)}`);
+  // Buscar tarefas (ordenadas por relevância, paginadas)
+  searchTasks: async (query: string, page = 0, size = 20) => {
+    const response = await api.get(`/tasks/search?query=${encodeURIComponent(query)}&page=${page}&size=${size}`);
     return response.data;
   },
 
+  // Exportar todas as tarefas (arquivo para download)
+  exportTasks: async (format: 'ndjson' | 'csv' = 'csv') => {
+    const response = await api.get(`/tasks/export?format=${format}`, { responseType: 'blob' });
+    return response.data as Blob;
+  },
+
   // Estatísticas
   getTaskStats: async () => {
     const response = await api.get('/tasks/stats');
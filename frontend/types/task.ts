@@ -11,6 +11,7 @@ export interface Task {
   createdAt: string;
   updatedAt: string;
   overdue: boolean;
+  version: number;
 }
 
 export interface TaskRequest {
@@ -20,6 +21,7 @@ export interface TaskRequest {
   priority: Priority;
   status?: Status;
   dueDate?: string;
+  version?: number; // versão lida; se outra edição chegou antes, a API responde 409
 }
 
 export interface TaskResponse {
@@ -34,6 +36,43 @@ export interface TaskResponse {
   createdAt: string;
   updatedAt: string;
   overdue: boolean;
+  version: number;
+}
+
+export interface TaskSearchResult {
+  task: TaskResponse;
+  rank: number;
+  highlight?: string;
+}
+
+export interface CursorPage<T> {
+  content: T[];
+  size: number;
+  nextCursor?: string;
+  prevCursor?: string;
+  totalElements?: number;
+}
+
+export interface BulkTaskOperation {
+  type: 'CREATE' | 'UPDATE' | 'STATUS' | 'DELETE';
+  id?: string;
+  task?: TaskRequest;
+  status?: Status;
+}
+
+export interface BulkTaskItemResult {
+  index: number;
+  id?: string;
+  status: 'CREATED' | 'UPDATED' | 'DELETED' | 'NOT_FOUND' | 'INVALID' | 'CONFLICT';
+  task?: TaskResponse;
+  message?: string;
+  success: boolean;
+}
+
+export interface BulkTaskResponse {
+  succeeded: number;
+  failed: number;
+  results: BulkTaskItemResult[];
 }
 
 export interface Category {
@@ -55,3 +94,10 @@ export interface TaskStats {
   inProgressTasks: number;
   completionRate: number;
 }
+
+// Eventos de GET /tasks/events (SSE)
+export interface TaskEvent {
+  type: 'CREATED' | 'UPDATED' | 'DELETED' | 'BULK' | 'RESYNC';
+  taskId?: string;
+  task?: TaskResponse;
+}